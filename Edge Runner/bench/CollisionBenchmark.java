@@ -0,0 +1,249 @@
+import java.util.ArrayList;
+import java.util.Random;
+
+/**
+ * Player 타일 충돌 마이크로 벤치마크
+ * - 예전 방식(맵 전체 스캔)과 현재 Player.moveAndCollide(swept AABB 범위만 검사)를 비교
+ * - 두 방식이 같은 입력에서 같은 위치를 내는지도 먼저 확인한다.
+ *
+ * 실행: java -cp bin CollisionBenchmark
+ */
+public class CollisionBenchmark {
+
+    private static final int TILE_SIZE = 32;
+
+    private static final double DT      = 1.0 / 120.0;
+    private static final double GRAVITY = 900.0;
+    private static final double SPEED   = 220.0;
+
+    public static void main(String[] args) {
+
+        run("stage1 30x16", MapLoader.loadStage(1), 200_000);
+
+        run("random 1000x1000", buildLargeMap(1000, 1000, 42L), 2_000);
+    }
+
+    private static void run(String label, MapLoader.MapData map, int steps) {
+
+        verifySameResult(map, steps);
+
+        // 워밍업
+        for (int i = 0; i < 5; i++) {
+            timeCurrent(map, steps);
+            timeLegacy(map, steps);
+        }
+
+        long current = Long.MAX_VALUE;
+        long legacy  = Long.MAX_VALUE;
+
+        for (int i = 0; i < 10; i++) {
+            current = Math.min(current, timeCurrent(map, steps));
+            legacy  = Math.min(legacy,  timeLegacy(map, steps));
+        }
+
+        double currentNs = current / (double) steps;
+        double legacyNs  = legacy  / (double) steps;
+
+        System.out.printf(
+                "%-18s full-scan %12.1f ns/step   broad-phase %9.1f ns/step   x%.1f%n",
+                label,
+                legacyNs,
+                currentNs,
+                legacyNs / currentNs
+        );
+    }
+
+    // ===============================
+    // Timing
+    // ===============================
+
+    private static long timeCurrent(MapLoader.MapData map, int steps) {
+
+        Player p = new Player(map.playerStartX, map.playerStartY, TILE_SIZE * 0.7, TILE_SIZE * 0.9);
+
+        long start = System.nanoTime();
+
+        for (int i = 0; i < steps; i++) {
+            p.applyHorizontalVelocity(inputVx(i));
+            p.applyGravity(GRAVITY, DT);
+            p.moveAndCollide(map, DT, TILE_SIZE);
+        }
+
+        long elapsed = System.nanoTime() - start;
+
+        sink += p.getX() + p.getY();
+
+        return elapsed;
+    }
+
+    private static long timeLegacy(MapLoader.MapData map, int steps) {
+
+        LegacyBody b = new LegacyBody(map.playerStartX, map.playerStartY, TILE_SIZE * 0.7, TILE_SIZE * 0.9);
+
+        long start = System.nanoTime();
+
+        for (int i = 0; i < steps; i++) {
+            b.velX = inputVx(i);
+            b.velY += GRAVITY * DT;
+            b.moveAndCollide(map, DT, TILE_SIZE);
+        }
+
+        long elapsed = System.nanoTime() - start;
+
+        sink += b.x + b.y;
+
+        return elapsed;
+    }
+
+    private static void verifySameResult(MapLoader.MapData map, int steps) {
+
+        Player p = new Player(map.playerStartX, map.playerStartY, TILE_SIZE * 0.7, TILE_SIZE * 0.9);
+        LegacyBody b = new LegacyBody(map.playerStartX, map.playerStartY, TILE_SIZE * 0.7, TILE_SIZE * 0.9);
+
+        for (int i = 0; i < steps; i++) {
+
+            p.applyHorizontalVelocity(inputVx(i));
+            p.applyGravity(GRAVITY, DT);
+            p.moveAndCollide(map, DT, TILE_SIZE);
+
+            b.velX = inputVx(i);
+            b.velY += GRAVITY * DT;
+            b.moveAndCollide(map, DT, TILE_SIZE);
+
+            if (p.getX() != b.x || p.getY() != b.y || p.getVelY() != b.velY) {
+                throw new IllegalStateException("충돌 결과 불일치 (step " + i + ")");
+            }
+        }
+    }
+
+    /** 좌우로 왕복하는 입력 */
+    private static double inputVx(int step) {
+
+        return ((step / 240) % 2 == 0) ? SPEED : -SPEED;
+    }
+
+    private static double sink;
+
+    // ===============================
+    // Map Generation
+    // ===============================
+
+    private static MapLoader.MapData buildLargeMap(int width, int height, long seed) {
+
+        Random random = new Random(seed);
+
+        MapLoader.TileType[][] tiles = new MapLoader.TileType[height][width];
+
+        for (int y = 0; y < height; y++) {
+            for (int x = 0; x < width; x++) {
+
+                boolean border = x == 0 || y == 0 || x == width - 1 || y == height - 1;
+
+                boolean platform = (y % 6 == 0) && random.nextInt(4) != 0;
+
+                tiles[y][x] = (border || platform)
+                        ? MapLoader.TileType.WALL
+                        : MapLoader.TileType.EMPTY;
+            }
+        }
+
+        // 시작 지점 주변은 비워 둠
+        for (int y = 1; y < 5; y++) {
+            for (int x = 1; x < 40; x++) {
+                tiles[y][x] = MapLoader.TileType.EMPTY;
+            }
+        }
+
+        for (int x = 1; x < 40; x++) {
+            tiles[6][x] = MapLoader.TileType.WALL;
+        }
+
+        return new MapLoader.MapData(
+                tiles,
+                width,
+                height,
+                2 * TILE_SIZE,
+                4 * TILE_SIZE,
+                0,
+                new ArrayList<>(),
+                new ArrayList<>()
+        );
+    }
+
+    // ===============================
+    // Legacy Full-Scan Reference
+    // ===============================
+
+    /** 예전 Player.moveAndCollide / moveAxis 를 그대로 옮긴 비교용 구현 */
+    private static final class LegacyBody {
+
+        private static final double BOUNCE_SPEED = 280.0;
+        private static final double COL_PAD_X    = 4.0;
+        private static final double COL_PAD_Y    = 3.0;
+
+        double x;
+        double y;
+        final double width;
+        final double height;
+
+        double velX;
+        double velY;
+
+        LegacyBody(double x, double y, double w, double h) {
+            this.x = x;
+            this.y = y;
+            this.width = w;
+            this.height = h;
+        }
+
+        void moveAndCollide(MapLoader.MapData map, double dt, int tileSize) {
+            double nx = x + velX * dt;
+            double ny = y + velY * dt;
+
+            x = moveAxis(map, nx, y, tileSize, true);
+            double ry = moveAxis(map, x, ny, tileSize, false);
+
+            if (ry != ny && velY > 0) {
+                velY = -BOUNCE_SPEED;
+            } else if (ry != ny && velY < 0) {
+                velY = 0;
+            }
+
+            y = ry;
+        }
+
+        private double moveAxis(MapLoader.MapData map,
+                                double tx, double ty,
+                                int tileSize,
+                                boolean horizontal) {
+
+            double rx = horizontal ? tx : x;
+            double ry = horizontal ? y  : ty;
+
+            double left   = rx + COL_PAD_X;
+            double right  = rx + width - COL_PAD_X;
+            double top    = ry + COL_PAD_Y;
+            double bottom = ry + height - COL_PAD_Y;
+
+            for (int y = 0; y < map.height; y++) {
+                for (int x = 0; x < map.width; x++) {
+                    if (map.getTile(x, y) != MapLoader.TileType.WALL) continue;
+
+                    int tl = x * tileSize;
+                    int tr = tl + tileSize;
+                    int tt = y * tileSize;
+                    int tb = tt + tileSize;
+
+                    if (right <= tl || left >= tr || bottom <= tt || top >= tb) continue;
+
+                    if (horizontal) {
+                        rx = velX > 0 ? tl - width - 0.01 : tr + 0.01;
+                    } else {
+                        ry = velY > 0 ? tt - height - 0.01 : tb + 0.01;
+                    }
+                }
+            }
+            return horizontal ? rx : ry;
+        }
+    }
+}
@@ -0,0 +1,442 @@
+import benchmarks.Workload;
+
+import javax.imageio.ImageIO;
+import javax.swing.JPanel;
+
+import java.awt.Graphics2D;
+import java.awt.Rectangle;
+import java.awt.image.BufferedImage;
+import java.io.File;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * benchmarks.HotPathBenchmark 가 이름으로 찾아 쓰는 측정 작업들
+ * - 게임 클래스와 같은 기본 패키지라서 package-private 메서드도 바로 호출할 수 있다.
+ * - 클래스 이름이 곧 @Param workload 값이다.
+ */
+public class HotPathWorkloads {
+
+    private static final int TILE_SIZE = StageSimulation.TILE_SIZE;
+
+    private static final double DT      = 1.0 / 120.0;
+    private static final double GRAVITY = 900.0;
+    private static final double SPEED   = 220.0;
+
+    // ===============================
+    // Player.moveAndCollide
+    // ===============================
+
+    public static final class Collision implements Workload {
+
+        private MapLoader.MapData map;
+
+        private Player player;
+
+        private int step;
+
+        @Override
+        public void setUp() {
+
+            map = MapLoader.loadStage(1);
+
+            player = new Player(map.playerStartX, map.playerStartY, TILE_SIZE * 0.7, TILE_SIZE * 0.9);
+        }
+
+        @Override
+        public Object run() {
+
+            // 좌우 왕복 입력 (CollisionBenchmark 와 같은 패턴)
+            double vx = ((step++ / 240) % 2 == 0) ? SPEED : -SPEED;
+
+            player.applyHorizontalVelocity(vx);
+            player.applyGravity(GRAVITY, DT);
+            player.moveAndCollide(map, DT, TILE_SIZE);
+
+            if (player.getY() > map.height * TILE_SIZE) {
+                player.respawn(map.playerStartX, map.playerStartY);
+            }
+
+            return player;
+        }
+    }
+
+    // ===============================
+    // Gear.collidesWith
+    // ===============================
+
+    public static final class GearCollision implements Workload {
+
+        private final List<Gear> gears =
+                new ArrayList<>();
+
+        private final Rectangle probe =
+                new Rectangle(0, 0, (int) (TILE_SIZE * 0.7), (int) (TILE_SIZE * 0.9));
+
+        private int step;
+
+        @Override
+        public void setUp() {
+
+            // 한 화면 분량(30x16)에 톱니 32개를 고르게 깔아 둔다
+            for (int i = 0; i < 32; i++) {
+
+                int tx = (i * 7) % 30;
+                int ty = 1 + (i * 5) % 15;
+
+                gears.add(
+                        (i % 2 == 0)
+                                ? Gear.horizontal(tx * TILE_SIZE, ty * TILE_SIZE, TILE_SIZE * 1.5, 1.8)
+                                : Gear.vertical(tx * TILE_SIZE, ty * TILE_SIZE, TILE_SIZE * 1.5, 1.8)
+                );
+            }
+        }
+
+        @Override
+        public Object run() {
+
+            step++;
+
+            probe.x = (step * 13) % (30 * TILE_SIZE);
+            probe.y = (step * 7) % (16 * TILE_SIZE);
+
+            for (Gear gear : gears) {
+                if (gear.collidesWith(probe)) {
+                    return gear;
+                }
+            }
+
+            return probe;
+        }
+    }
+
+    // ===============================
+    // SpatialHash.query + Gear.collidesWith
+    // ===============================
+
+    public static final class GearQuery implements Workload {
+
+        private static final int WORLD_TILES_X = 300;
+        private static final int WORLD_TILES_Y = 16;
+
+        private final List<Gear> gears =
+                new ArrayList<>();
+
+        private final SpatialHash.Result hits =
+                new SpatialHash.Result();
+
+        private final Rectangle probe =
+                new Rectangle(0, 0, (int) (TILE_SIZE * 0.7), (int) (TILE_SIZE * 0.9));
+
+        private SpatialHash index;
+
+        private int step;
+
+        @Override
+        public void setUp() {
+
+            // GearCollision 과 같은 밀도로 열 화면 분량(300x16)에 톱니 320개
+            for (int i = 0; i < 320; i++) {
+
+                int tx = (i * 7) % WORLD_TILES_X;
+                int ty = 1 + (i * 5) % 15;
+
+                gears.add(
+                        (i % 2 == 0)
+                                ? Gear.horizontal(tx * TILE_SIZE, ty * TILE_SIZE, TILE_SIZE * 1.5, 1.8)
+                                : Gear.vertical(tx * TILE_SIZE, ty * TILE_SIZE, TILE_SIZE * 1.5, 1.8)
+                );
+            }
+
+            index = new SpatialHash(WORLD_TILES_X * TILE_SIZE, WORLD_TILES_Y * TILE_SIZE, TILE_SIZE * 2, gears.size());
+
+            for (int i = 0; i < gears.size(); i++) {
+                index.insert(i, gears.get(i).x + TILE_SIZE / 2.0, gears.get(i).y + TILE_SIZE / 2.0);
+            }
+        }
+
+        @Override
+        public Object run() {
+
+            step++;
+
+            probe.x = (step * 13) % (WORLD_TILES_X * TILE_SIZE);
+            probe.y = (step * 7) % (WORLD_TILES_Y * TILE_SIZE);
+
+            index.query(
+                    probe.x - TILE_SIZE / 2.0,
+                    probe.y - TILE_SIZE / 2.0,
+                    probe.x + probe.width + TILE_SIZE / 2.0,
+                    probe.y + probe.height + TILE_SIZE / 2.0,
+                    hits
+            );
+
+            for (int i = 0; i < hits.size(); i++) {
+
+                Gear gear = gears.get(hits.get(i));
+
+                if (gear.collidesWith(probe)) {
+                    return gear;
+                }
+            }
+
+            return probe;
+        }
+    }
+
+    // ===============================
+    // MapLoader.loadStage
+    // ===============================
+
+    public static final class MapLoad implements Workload {
+
+        private int next;
+
+        @Override
+        public void setUp() {
+        }
+
+        @Override
+        public Object run() {
+
+            int stage = next;
+
+            next = (next + 1) % MapLoader.STAGE_COUNT;
+
+            return MapLoader.loadStage(stage);
+        }
+    }
+
+    // ===============================
+    // StageStory.getEndingScript + Typewriter.update
+    // ===============================
+
+    public static final class EndingTyping implements Workload {
+
+        // 엔딩 화면과 같은 속도 (글자 0.03초, 줄 끝 0.05초)
+        private final Typewriter typing =
+                new Typewriter(0.03, 0.05);
+
+        private int next;
+
+        @Override
+        public void setUp() {
+        }
+
+        @Override
+        public Object run() {
+
+            // 게임처럼 매 프레임 같은 대본을 다시 넘기고 한 프레임 진행, 끝나면 다음 엔딩
+            int i = next;
+
+            typing.setScript(StageStory.getEndingScript(i & 3, (i & 4) != 0));
+
+            typing.update(1.0 / 60.0);
+
+            if (typing.isComplete()) {
+                next++;
+            }
+
+            return typing;
+        }
+    }
+
+    // ===============================
+    // SfxEngine.play (SoundManager.playSFX 가 부르는 경로)
+    // ===============================
+
+    public static final class PlaySfx implements Workload {
+
+        private SfxEngine engine;
+
+        @Override
+        public void setUp() throws Exception {
+
+            engine = new SfxEngine(-15.0f, SoundManager.SFX_JUMP);
+
+            if (!engine.awaitPreloaded(10, TimeUnit.SECONDS)) {
+                throw new IllegalStateException("효과음 미리 디코딩이 끝나지 않음");
+            }
+        }
+
+        @Override
+        public Object run() {
+
+            long handled = engine.getHandledRequests();
+
+            engine.play(SoundManager.SFX_JUMP);
+
+            // 오디오 스레드가 이번 요청을 실제로 재생할 때까지 기다림
+            // → 큐에 쌓이거나 버려진 요청이 아니라 재생 한 번의 비용을 잰다
+            while (engine.getHandledRequests() == handled) {
+                Thread.yield();
+            }
+
+            return engine;
+        }
+
+        @Override
+        public void tearDown() {
+
+            engine.shutdown();
+
+            if (engine.getDroppedRequests() > 0) {
+                throw new IllegalStateException("버려진 재생 요청: " + engine.getDroppedRequests());
+            }
+        }
+    }
+
+    // ===============================
+    // BgmStreamer.mixChunk (라인 없이 믹싱만)
+    // ===============================
+
+    public static final class BgmMix implements Workload {
+
+        private final byte[] out =
+                new byte[BgmStreamer.CHUNK_FRAMES * 4];
+
+        private BgmStreamer streamer;
+
+        private int chunk;
+
+        @Override
+        public void setUp() {
+
+            streamer = new BgmStreamer(-15.0f, false);
+
+            streamer.play(SoundManager.SFX_TYPING, 0.8f);
+            streamer.applyPending();
+        }
+
+        @Override
+        public Object run() {
+
+            // 약 2초마다 곡을 바꿔서 절반 가까이는 두 곡을 섞는 크로스페이드 구간
+            if (++chunk % 86 == 0) {
+
+                streamer.play(
+                        ((chunk / 86) % 2 == 0) ? SoundManager.SFX_TYPING : SoundManager.SFX_STAR_COLLECT,
+                        0.8f
+                );
+
+                streamer.applyPending();
+            }
+
+            streamer.mixChunk(out);
+
+            return out;
+        }
+    }
+
+    // ===============================
+    // BackdropCache.draw (스테이지 배경 한 장)
+    // ===============================
+
+    public static final class DrawBackdrop implements Workload {
+
+        private final BackdropCache backdrops =
+                new BackdropCache();
+
+        private BufferedImage source;
+
+        private BufferedImage target;
+
+        private Graphics2D g;
+
+        @Override
+        public void setUp() throws Exception {
+
+            // 게임과 같은 디코딩 결과 (JPG → 3BYTE_BGR) 를 ARGB 백버퍼의 맵 영역 크기로
+            source = ImageIO.read(new File("image/bg_stage2.jpg"));
+
+            target = new BufferedImage(
+                    GameCore.GamePanel.WIDTH,
+                    GameCore.GamePanel.HEIGHT,
+                    BufferedImage.TYPE_INT_ARGB
+            );
+
+            g = target.createGraphics();
+        }
+
+        @Override
+        public Object run() {
+
+            backdrops.draw(g, source, 0, 60, GameCore.GamePanel.WIDTH, GameCore.GamePanel.HEIGHT - 60);
+
+            return target;
+        }
+
+        @Override
+        public void tearDown() {
+
+            g.dispose();
+        }
+    }
+
+    // ===============================
+    // GamePanel.drawTiles / render (오프스크린)
+    // ===============================
+
+    private abstract static class PanelWorkload implements Workload {
+
+        GameCore.GamePanel panel;
+
+        BufferedImage target;
+
+        Graphics2D g;
+
+        @Override
+        public void setUp() throws Exception {
+
+            panel = new GameCore.GamePanel(new JPanel());
+
+            panel.loadStage(1);
+
+            // 이미지 로딩이 끝난 뒤 한 프레임 그려서 게임 스레드 쪽에 반영
+            AssetManager assets = GameCore.getAssetManager();
+
+            while (!assets.isIdle()) {
+                Thread.sleep(10);
+            }
+
+            target = new BufferedImage(
+                    GameCore.GamePanel.WIDTH,
+                    GameCore.GamePanel.HEIGHT,
+                    BufferedImage.TYPE_INT_ARGB
+            );
+
+            g = target.createGraphics();
+
+            panel.render(g);
+        }
+
+        @Override
+        public void tearDown() {
+
+            g.dispose();
+        }
+    }
+
+    public static final class DrawTiles extends PanelWorkload {
+
+        @Override
+        public Object run() {
+
+            panel.drawTiles(g);
+
+            return target;
+        }
+    }
+
+    public static final class RenderFrame extends PanelWorkload {
+
+        @Override
+        public Object run() {
+
+            panel.render(g);
+
+            return target;
+        }
+    }
+}
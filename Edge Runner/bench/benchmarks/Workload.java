@@ -0,0 +1,18 @@
+package benchmarks;
+
+/**
+ * JMH 에서 측정할 작업 하나
+ * - 게임 코드는 기본 패키지에 있어서 이름 있는 패키지(JMH 벤치마크)에서 import 할 수 없다.
+ * - 그래서 실제 작업은 기본 패키지의 HotPathWorkloads 가 이 인터페이스로 구현한다.
+ */
+public interface Workload {
+
+    /** 트라이얼 시작 시 한 번 */
+    void setUp() throws Exception;
+
+    /** 측정 대상. 결과는 Blackhole 로 넘겨서 JIT 가 지우지 못하게 한다. */
+    Object run();
+
+    default void tearDown() {
+    }
+}
@@ -0,0 +1,77 @@
+package benchmarks;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 게임 핫패스 JMH 벤치마크
+ *
+ * 빌드/실행 ("Edge Runner" 폴더에서, 이미지/사운드 상대 경로 때문):
+ *   mvn -B -P bench package
+ *   java -jar target/benchmarks.jar                          (전체)
+ *   java -jar target/benchmarks.jar -p workload=Collision     (하나만)
+ *   java -jar target/benchmarks.jar -prof gc                  (할당량 포함)
+ *
+ * 작업마다 JVM 을 새로 띄우므로(fork) 서로의 JIT 프로파일이 섞이지 않는다.
+ * JMH 어노테이션이 있는 이 폴더(jmh/)는 Maven bench 프로필에서만 컴파일된다 (Eclipse 소스 폴더 아님).
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(value = 1, jvmArgsAppend = "-Djava.awt.headless=true")
+public class HotPathBenchmark {
+
+    @Param({
+            "Collision",
+            "GearCollision",
+            "GearQuery",
+            "MapLoad",
+            "EndingTyping",
+            "PlaySfx",
+            "BgmMix",
+            "DrawBackdrop",
+            "DrawTiles",
+            "RenderFrame"
+    })
+    public String workload;
+
+    private Workload target;
+
+    @Setup(Level.Trial)
+    public void setUp() throws Exception {
+
+        target =
+                (Workload) Class.forName("HotPathWorkloads$" + workload)
+                        .getDeclaredConstructor()
+                        .newInstance();
+
+        target.setUp();
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+
+        target.tearDown();
+    }
+
+    @Benchmark
+    public Object hotPath() {
+
+        return target.run();
+    }
+}
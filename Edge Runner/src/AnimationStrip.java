@@ -0,0 +1,302 @@
+import javax.imageio.ImageIO;
+import javax.imageio.ImageReader;
+import javax.imageio.metadata.IIOMetadata;
+import javax.imageio.metadata.IIOMetadataNode;
+import javax.imageio.stream.ImageInputStream;
+import java.awt.AlphaComposite;
+import java.awt.Graphics2D;
+import java.awt.Transparency;
+import java.awt.image.BufferedImage;
+import java.io.File;
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+
+/**
+ * 애니메이션 GIF 를 그려질 크기의 프레임 띠(strip) 한 장으로 만든 것
+ * - 프레임을 한 장씩 앞으로만 읽으면서(seekForwardOnly) 논리 화면 캔버스에 합성하고,
+ *   GIF 의 disposal 방식(유지/배경으로 지움/이전 상태로 복원)을 그대로 따른다.
+ * - 합성된 프레임은 바로 w x h 로 줄여서 띠에 넣으므로 원본 크기 프레임은 한 번에 하나만 메모리에 있다.
+ *   → 메모리는 원본 크기가 아니라 화면에 그릴 크기 x 프레임 수에 비례
+ * - 디코딩은 AssetManager 로더 스레드에서 (fromGif), 그리기는 게임 스레드에서 (draw)
+ */
+public class AnimationStrip {
+
+    private static final String GIF_IMAGE_FORMAT =
+            "javax_imageio_gif_image_1.0";
+
+    private static final String GIF_STREAM_FORMAT =
+            "javax_imageio_gif_stream_1.0";
+
+    // ===============================
+    // Fields
+    // ===============================
+
+    private final BufferedImage strip;
+
+    private final int frameWidth;
+
+    private final int frameHeight;
+
+    private final int frameCount;
+
+    private AnimationStrip(BufferedImage strip, int frameWidth, int frameHeight, int frameCount) {
+
+        this.strip = strip;
+        this.frameWidth = frameWidth;
+        this.frameHeight = frameHeight;
+        this.frameCount = frameCount;
+    }
+
+    // ===============================
+    // Drawing
+    // ===============================
+
+    /** frame 번째 칸을 (x, y) 에 같은 크기로 복사 */
+    public void draw(Graphics2D g, int frame, int x, int y) {
+
+        int sx =
+                frame * frameWidth;
+
+        g.drawImage(
+                strip,
+                x, y, x + frameWidth, y + frameHeight,
+                sx, 0, sx + frameWidth, frameHeight,
+                null
+        );
+    }
+
+    public int frameCount() {
+        return frameCount;
+    }
+
+    public int frameWidth() {
+        return frameWidth;
+    }
+
+    public int frameHeight() {
+        return frameHeight;
+    }
+
+    // ===============================
+    // GIF Decoding (loader threads)
+    // ===============================
+
+    /** 프레임이 하나도 없거나 읽기 실패면 null */
+    public static AnimationStrip fromGif(File file, int w, int h) {
+
+        if (!file.exists()) {
+            System.err.println("GIF 파일 없음: " + file.getPath());
+            return null;
+        }
+
+        List<BufferedImage> cells =
+                new ArrayList<>();
+
+        try (
+                ImageInputStream stream =
+                        ImageIO.createImageInputStream(file)
+        ) {
+
+            Iterator<ImageReader> readers =
+                    ImageIO.getImageReadersByFormatName("gif");
+
+            if (stream == null || !readers.hasNext()) {
+                return null;
+            }
+
+            ImageReader reader =
+                    readers.next();
+
+            try {
+
+                // 앞으로만 읽음: 지나간 프레임 정보는 리더가 들고 있지 않음
+                reader.setInput(stream, true);
+
+                decodeFrames(reader, w, h, cells);
+
+            } finally {
+                reader.dispose();
+            }
+
+        } catch (Exception e) {
+
+            e.printStackTrace();
+
+            return null;
+        }
+
+        if (cells.isEmpty()) {
+            return null;
+        }
+
+        return pack(cells, w, h);
+    }
+
+    private static void decodeFrames(ImageReader reader, int w, int h, List<BufferedImage> cells) throws Exception {
+
+        BufferedImage canvas =
+                null;
+
+        // restoreToPrevious 프레임이 덮기 전의 그 영역
+        BufferedImage saved =
+                null;
+
+        for (int i = 0; ; i++) {
+
+            BufferedImage frame;
+
+            try {
+                frame = reader.read(i);
+            } catch (IndexOutOfBoundsException end) {
+                break;
+            }
+
+            IIOMetadataNode meta =
+                    (IIOMetadataNode) reader.getImageMetadata(i).getAsTree(GIF_IMAGE_FORMAT);
+
+            IIOMetadataNode desc =
+                    child(meta, "ImageDescriptor");
+
+            IIOMetadataNode control =
+                    child(meta, "GraphicControlExtension");
+
+            int left = intAttr(desc, "imageLeftPosition");
+            int top  = intAttr(desc, "imageTopPosition");
+
+            int fw = frame.getWidth();
+            int fh = frame.getHeight();
+
+            String disposal =
+                    (control != null)
+                            ? control.getAttribute("disposalMethod")
+                            : "none";
+
+            if (canvas == null) {
+                canvas = createCanvas(reader, left + fw, top + fh);
+            }
+
+            Graphics2D g =
+                    canvas.createGraphics();
+
+            try {
+
+                if ("restoreToPrevious".equals(disposal)) {
+
+                    saved =
+                            new BufferedImage(fw, fh, BufferedImage.TYPE_INT_ARGB);
+
+                    Graphics2D sg =
+                            saved.createGraphics();
+
+                    try {
+                        sg.drawImage(canvas, -left, -top, null);
+                    } finally {
+                        sg.dispose();
+                    }
+                }
+
+                // 투명 색 칸은 아래(앞 프레임)가 비쳐 보이도록 덮어 그림
+                g.drawImage(frame, left, top, null);
+
+                cells.add(SpriteAtlas.scaleDown(canvas, w, h));
+
+                // 다음 프레임 전에 이번 프레임 영역 정리
+                if ("restoreToBackgroundColor".equals(disposal)) {
+
+                    // 배경색 대신 투명으로 지움 (브라우저와 같은 방식)
+                    g.setComposite(AlphaComposite.Clear);
+                    g.fillRect(left, top, fw, fh);
+
+                } else if ("restoreToPrevious".equals(disposal) && saved != null) {
+
+                    g.setComposite(AlphaComposite.Src);
+                    g.drawImage(saved, left, top, null);
+                }
+
+            } finally {
+                g.dispose();
+            }
+        }
+    }
+
+    /** 논리 화면 크기 캔버스 (스트림 정보가 없으면 첫 프레임이 들어갈 크기) */
+    private static BufferedImage createCanvas(ImageReader reader, int minW, int minH) throws Exception {
+
+        int w = minW;
+        int h = minH;
+
+        IIOMetadata streamMeta =
+                reader.getStreamMetadata();
+
+        if (streamMeta != null) {
+
+            IIOMetadataNode screen =
+                    child((IIOMetadataNode) streamMeta.getAsTree(GIF_STREAM_FORMAT), "LogicalScreenDescriptor");
+
+            w = Math.max(w, intAttr(screen, "logicalScreenWidth"));
+            h = Math.max(h, intAttr(screen, "logicalScreenHeight"));
+        }
+
+        return new BufferedImage(w, h, BufferedImage.TYPE_INT_ARGB);
+    }
+
+    private static AnimationStrip pack(List<BufferedImage> cells, int w, int h) {
+
+        int count =
+                cells.size();
+
+        BufferedImage strip =
+                AssetManager.createCompatibleImage(w * count, h, Transparency.TRANSLUCENT);
+
+        Graphics2D g =
+                strip.createGraphics();
+
+        try {
+
+            g.setComposite(AlphaComposite.Src);
+
+            for (int i = 0; i < count; i++) {
+                g.drawImage(cells.get(i), i * w, 0, null);
+            }
+
+        } finally {
+            g.dispose();
+        }
+
+        return new AnimationStrip(strip, w, h, count);
+    }
+
+    // ===============================
+    // Metadata Helpers
+    // ===============================
+
+    private static IIOMetadataNode child(IIOMetadataNode node, String name) {
+
+        if (node == null) {
+            return null;
+        }
+
+        for (int i = 0; i < node.getLength(); i++) {
+
+            if (name.equals(node.item(i).getNodeName())) {
+                return (IIOMetadataNode) node.item(i);
+            }
+        }
+
+        return null;
+    }
+
+    private static int intAttr(IIOMetadataNode node, String name) {
+
+        if (node == null) {
+            return 0;
+        }
+
+        try {
+            return Integer.parseInt(node.getAttribute(name));
+        } catch (NumberFormatException e) {
+            return 0;
+        }
+    }
+}
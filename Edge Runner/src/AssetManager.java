@@ -0,0 +1,281 @@
+import javax.imageio.ImageIO;
+import java.awt.Graphics2D;
+import java.awt.GraphicsConfiguration;
+import java.awt.GraphicsEnvironment;
+import java.awt.Transparency;
+import java.awt.image.BufferedImage;
+import java.io.File;
+import java.io.IOException;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * 이미지 에셋 로더
+ * - PNG/JPG 디코딩과 GIF 애니메이션(AnimationStrip) 생성을 스레드 풀에서 병렬로 처리
+ * - 디코딩 결과는 화면과 같은 포맷(createCompatibleImage)으로 바꿔서 경로별로 캐시
+ * - 진행 상황은 ProgressListener 로 알려준다 (호출 스레드는 로더 스레드)
+ */
+public class AssetManager {
+
+    // ===============================
+    // Progress Listener
+    // ===============================
+
+    public interface ProgressListener {
+
+        void onProgress(int loaded, int requested);
+    }
+
+    // ===============================
+    // Fields
+    // ===============================
+
+    private final ExecutorService pool;
+
+    private final ConcurrentHashMap<String, CompletableFuture<BufferedImage>> images =
+            new ConcurrentHashMap<>();
+
+    // 키: 경로@가로x세로 (같은 GIF 라도 그릴 크기가 다르면 따로 만든다)
+    private final ConcurrentHashMap<String, CompletableFuture<AnimationStrip>> animations =
+            new ConcurrentHashMap<>();
+
+    private final List<ProgressListener> listeners =
+            new CopyOnWriteArrayList<>();
+
+    private final AtomicInteger requested =
+            new AtomicInteger();
+
+    private final AtomicInteger loaded =
+            new AtomicInteger();
+
+    // ===============================
+    // Constructor
+    // ===============================
+
+    public AssetManager() {
+
+        int threads =
+                Math.max(2, Math.min(4, Runtime.getRuntime().availableProcessors()));
+
+        AtomicInteger counter =
+                new AtomicInteger();
+
+        pool =
+                Executors.newFixedThreadPool(
+                        threads,
+                        r -> {
+                            Thread t = new Thread(r, "AssetLoader-" + counter.incrementAndGet());
+                            t.setDaemon(true);
+                            return t;
+                        }
+                );
+    }
+
+    // ===============================
+    // Progress
+    // ===============================
+
+    /** 등록 즉시 현재 진행 상황을 한 번 알려준다 */
+    public void addProgressListener(ProgressListener listener) {
+
+        listeners.add(listener);
+
+        listener.onProgress(loaded.get(), requested.get());
+    }
+
+    public void removeProgressListener(ProgressListener listener) {
+
+        listeners.remove(listener);
+    }
+
+    public boolean isIdle() {
+
+        return loaded.get() >= requested.get();
+    }
+
+    private void onRequested() {
+
+        requested.incrementAndGet();
+
+        fireProgress();
+    }
+
+    private void onLoaded() {
+
+        loaded.incrementAndGet();
+
+        fireProgress();
+    }
+
+    private void fireProgress() {
+
+        int done = loaded.get();
+        int total = requested.get();
+
+        for (ProgressListener l : listeners) {
+            l.onProgress(done, total);
+        }
+    }
+
+    // ===============================
+    // Image Loading
+    // ===============================
+
+    /** 같은 경로는 한 번만 디코딩된다. 파일이 없거나 읽기 실패면 null 로 완료 */
+    public CompletableFuture<BufferedImage> loadImage(String path) {
+
+        return images.computeIfAbsent(
+                path,
+                p -> {
+                    onRequested();
+                    return CompletableFuture
+                            .supplyAsync(() -> decodeImage(p), pool)
+                            .whenComplete((img, err) -> onLoaded());
+                }
+        );
+    }
+
+    /**
+     * GIF 를 w x h 프레임 띠로 (처음 요청할 때 로더 스레드에서 디코딩 시작)
+     * 실패하면 null 로 완료
+     */
+    public CompletableFuture<AnimationStrip> loadAnimation(String path, int w, int h) {
+
+        return animations.computeIfAbsent(
+                path + "@" + w + "x" + h,
+                key -> {
+                    onRequested();
+                    return CompletableFuture
+                            .supplyAsync(() -> AnimationStrip.fromGif(new File(path), w, h), pool)
+                            .whenComplete((strip, err) -> onLoaded());
+                }
+        );
+    }
+
+    /** 로딩이 끝난 이미지만 돌려준다. 아직이거나 실패했으면 null */
+    public BufferedImage getImage(String path) {
+
+        CompletableFuture<BufferedImage> f =
+                images.get(path);
+
+        if (f == null || !f.isDone() || f.isCompletedExceptionally()) {
+            return null;
+        }
+
+        return f.join();
+    }
+
+    /** 요청한 애니메이션이 준비됐으면 돌려준다. 아직이거나 실패했으면 null (프레임마다 불러도 할당 없음) */
+    public static AnimationStrip getIfReady(CompletableFuture<AnimationStrip> request) {
+
+        if (request == null || !request.isDone() || request.isCompletedExceptionally()) {
+            return null;
+        }
+
+        return request.join();
+    }
+
+    public void shutdown() {
+
+        pool.shutdownNow();
+    }
+
+    // ===============================
+    // Decoding (loader threads)
+    // ===============================
+
+    private BufferedImage decodeImage(String path) {
+
+        File f =
+                new File(path);
+
+        if (!f.exists()) {
+            System.err.println("이미지 파일 없음: " + path);
+            return null;
+        }
+
+        try {
+
+            BufferedImage img =
+                    ImageIO.read(f);
+
+            if (img == null) {
+                return null;
+            }
+
+            return toCompatibleImage(img);
+
+        } catch (IOException e) {
+
+            e.printStackTrace();
+
+            return null;
+        }
+    }
+
+    // ===============================
+    // Compatible Image Conversion
+    // ===============================
+
+    /** 화면 장치와 같은 픽셀 포맷으로 복사 (그릴 때 포맷 변환이 생기지 않도록) */
+    public static BufferedImage toCompatibleImage(BufferedImage src) {
+
+        if (GraphicsEnvironment.isHeadless()) {
+            return src;
+        }
+
+        if (src.getColorModel().equals(defaultConfiguration().getColorModel(src.getTransparency()))) {
+            return src;
+        }
+
+        BufferedImage dst =
+                createCompatibleImage(
+                        src.getWidth(),
+                        src.getHeight(),
+                        src.getTransparency()
+                );
+
+        Graphics2D g =
+                dst.createGraphics();
+
+        try {
+            g.drawImage(src, 0, 0, null);
+        } finally {
+            g.dispose();
+        }
+
+        return dst;
+    }
+
+    /**
+     * 화면과 같은 포맷의 빈 이미지 (transparency: java.awt.Transparency 상수)
+     * 헤드리스면 화면 정보가 없으므로 INT_RGB / INT_ARGB
+     */
+    public static BufferedImage createCompatibleImage(int w, int h, int transparency) {
+
+        if (GraphicsEnvironment.isHeadless()) {
+            return new BufferedImage(
+                    w,
+                    h,
+                    (transparency == Transparency.OPAQUE)
+                            ? BufferedImage.TYPE_INT_RGB
+                            : BufferedImage.TYPE_INT_ARGB
+            );
+        }
+
+        return defaultConfiguration().createCompatibleImage(w, h, transparency);
+    }
+
+    private static GraphicsConfiguration defaultConfiguration() {
+
+        return GraphicsEnvironment
+                .getLocalGraphicsEnvironment()
+                .getDefaultScreenDevice()
+                .getDefaultConfiguration();
+    }
+}
@@ -0,0 +1,154 @@
+import java.awt.Color;
+import java.awt.Graphics2D;
+import java.awt.RenderingHints;
+import java.awt.Transparency;
+import java.awt.image.BufferedImage;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * 화면 전체(또는 맵 영역)를 덮는 배경 이미지 준비
+ * - 원본(JPG 의 3BYTE_BGR, 큰 PNG 등)을 그려질 크기 그대로, 화면과 같은 불투명 포맷으로 한 번만 변환해 둔다.
+ *   → 매 프레임 drawImage 는 크기 조절/포맷 변환 없는 단순 복사
+ * - 원본 + 크기별로 최근에 쓴 MAX_PREPARED 장만 들고 있는다 (960x540 한 장에 약 2MB)
+ * - 창 크기나 화면 장치가 바뀌면 markStale() → 다음에 그릴 때 다시 준비
+ *
+ * 게임 스레드 전용 (markStale() 만 다른 스레드에서 호출 가능)
+ */
+public class BackdropCache {
+
+    // 스토리/인트로 1 + 스테이지 1 + 엔딩 1 이 번갈아 쓰이는 정도
+    private static final int MAX_PREPARED = 3;
+
+    // 투명한 부분이 있는 원본은 이 색 위에 합성
+    private static final Color MATTE =
+            Color.BLACK;
+
+    // ===============================
+    // Prepared Image
+    // ===============================
+
+    private static final class Prepared {
+
+        final BufferedImage image;
+
+        final int width;
+        final int height;
+
+        Prepared(BufferedImage image, int width, int height) {
+            this.image = image;
+            this.width = width;
+            this.height = height;
+        }
+    }
+
+    // 키는 원본 이미지 (BufferedImage 는 equals 를 재정의하지 않으므로 같은 객체끼리만 일치)
+    private final Map<BufferedImage, Prepared> prepared =
+            new LinkedHashMap<BufferedImage, Prepared>(8, 0.75f, true) {
+
+                @Override
+                protected boolean removeEldestEntry(Map.Entry<BufferedImage, Prepared> eldest) {
+                    return size() > MAX_PREPARED;
+                }
+            };
+
+    private volatile boolean stale =
+            false;
+
+    // ===============================
+    // Drawing
+    // ===============================
+
+    /** src 를 (x, y) 에 w x h 로. src 가 null 이면 false (호출한 쪽에서 대체 색을 칠함) */
+    public boolean draw(Graphics2D g, BufferedImage src, int x, int y, int w, int h) {
+
+        BufferedImage image =
+                get(src, w, h);
+
+        if (image == null) {
+            return false;
+        }
+
+        g.drawImage(image, x, y, null);
+
+        return true;
+    }
+
+    public BufferedImage get(BufferedImage src, int w, int h) {
+
+        if (src == null) {
+            return null;
+        }
+
+        if (stale) {
+            stale = false;
+            prepared.clear();
+        }
+
+        Prepared p =
+                prepared.get(src);
+
+        if (p == null || p.width != w || p.height != h) {
+
+            p =
+                    new Prepared(prepare(src, w, h), w, h);
+
+            prepared.put(src, p);
+        }
+
+        return p.image;
+    }
+
+    // ===============================
+    // Invalidation
+    // ===============================
+
+    /** 어느 스레드에서나 호출 가능. 실제로 비우는 건 게임 스레드의 다음 get() */
+    public void markStale() {
+
+        stale = true;
+    }
+
+    public int getPreparedCount() {
+
+        return prepared.size();
+    }
+
+    // ===============================
+    // Preparation
+    // ===============================
+
+    private static BufferedImage prepare(BufferedImage src, int w, int h) {
+
+        BufferedImage dst =
+                AssetManager.createCompatibleImage(w, h, Transparency.OPAQUE);
+
+        Graphics2D g =
+                dst.createGraphics();
+
+        try {
+
+            g.setRenderingHint(
+                    RenderingHints.KEY_INTERPOLATION,
+                    RenderingHints.VALUE_INTERPOLATION_BICUBIC
+            );
+
+            g.setRenderingHint(
+                    RenderingHints.KEY_RENDERING,
+                    RenderingHints.VALUE_RENDER_QUALITY
+            );
+
+            if (src.getTransparency() != Transparency.OPAQUE) {
+                g.setColor(MATTE);
+                g.fillRect(0, 0, w, h);
+            }
+
+            g.drawImage(src, 0, 0, w, h, null);
+
+        } finally {
+            g.dispose();
+        }
+
+        return dst;
+    }
+}
@@ -0,0 +1,588 @@
+import javax.sound.sampled.*;
+import java.io.BufferedInputStream;
+import java.io.File;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.file.Files;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * 배경음 스트리밍 재생기
+ * - 곡 전체를 Clip 에 올리지 않고, 전용 스레드가 CHUNK_FRAMES 씩 읽어 SourceDataLine 에 쓴다.
+ *   → 곡 길이와 상관없이 메모리는 버퍼 몇 개 분량으로 일정
+ * - 모든 곡은 OUTPUT 형식(44.1kHz 16비트 스테레오)으로 변환해서 섞는다.
+ * - 곡을 바꾸면 이전 곡은 줄이고 새 곡은 키우는 크로스페이드, 곡 끝에서는 같은 청크 안에서 처음부터 다시 읽어 끊김 없이 반복
+ * - 파일 열기/디코딩은 모두 스트림 스레드에서 하므로 play/stop 을 부르는 쪽은 멈추지 않는다.
+ */
+public class BgmStreamer {
+
+    // ===============================
+    // Configuration
+    // ===============================
+
+    static final AudioFormat OUTPUT =
+            new AudioFormat(44100f, 16, 2, true, false);
+
+    private static final int CHANNELS =
+            2;
+
+    private static final int FRAME_BYTES =
+            4;
+
+    // 한 번에 섞는 양 (약 23ms)
+    static final int CHUNK_FRAMES =
+            1024;
+
+    // 라인 버퍼 = 청크 4개 (약 93ms). 곡 전환이 들리기까지의 지연도 이만큼
+    private static final int LINE_BUFFER_CHUNKS =
+            4;
+
+    // 동시에 섞는 곡 수 상한 (빠르게 여러 번 바꿀 때 가장 작은 소리부터 정리)
+    private static final int MAX_TRACKS =
+            3;
+
+    private static final int QUEUE_CAPACITY =
+            16;
+
+    // ===============================
+    // Commands
+    // ===============================
+
+    private static final class Command {
+
+        // path 가 null 이면 정지
+        final String path;
+
+        final float fadeSeconds;
+
+        Command(String path, float fadeSeconds) {
+
+            this.path = path;
+            this.fadeSeconds = fadeSeconds;
+        }
+    }
+
+    // ===============================
+    // Fields
+    // ===============================
+
+    private final BlockingQueue<Command> commands =
+            new ArrayBlockingQueue<>(QUEUE_CAPACITY);
+
+    // 스트림 스레드에서만 접근
+    private final List<Track> tracks =
+            new ArrayList<>();
+
+    private final float[] mixBuffer =
+            new float[CHUNK_FRAMES * CHANNELS];
+
+    private final byte[] outBuffer =
+            new byte[CHUNK_FRAMES * FRAME_BYTES];
+
+    private final Thread streamThread;
+
+    private volatile boolean running = true;
+
+    // dB (SoundManager 의 MASTER_GAIN 값과 같은 단위)
+    private volatile float volume;
+
+    private final AtomicInteger droppedRequests =
+            new AtomicInteger();
+
+    // ===============================
+    // Constructor
+    // ===============================
+
+    public BgmStreamer(float volume) {
+
+        this(volume, true);
+    }
+
+    /** startThread 가 false 면 라인 없이 mixChunk 만 직접 부르는 용도 (bench) */
+    BgmStreamer(float volume, boolean startThread) {
+
+        this.volume = volume;
+
+        if (startThread) {
+
+            streamThread =
+                    new Thread(this::runStreamLoop, "BgmStreamThread");
+
+            streamThread.setDaemon(true);
+            streamThread.start();
+
+        } else {
+
+            streamThread = null;
+        }
+    }
+
+    // ===============================
+    // Public API (any thread)
+    // ===============================
+
+    /** path 곡으로 fadeSeconds 동안 크로스페이드. 이미 그 곡이 나오고 있으면 그대로 둔다 */
+    public void play(String path, float fadeSeconds) {
+
+        post(new Command(path, fadeSeconds));
+    }
+
+    public void stop(float fadeSeconds) {
+
+        post(new Command(null, fadeSeconds));
+    }
+
+    public void setVolume(float volume) {
+
+        this.volume = volume;
+    }
+
+    public int getDroppedRequests() {
+
+        return droppedRequests.get();
+    }
+
+    public void shutdown() {
+
+        running = false;
+
+        if (streamThread != null) {
+            streamThread.interrupt();
+        }
+    }
+
+    private void post(Command command) {
+
+        if (!commands.offer(command)) {
+            droppedRequests.incrementAndGet();
+        }
+    }
+
+    // ===============================
+    // Stream Thread
+    // ===============================
+
+    private void runStreamLoop() {
+
+        SourceDataLine line =
+                openLine();
+
+        try {
+
+            while (running) {
+
+                if (tracks.isEmpty()) {
+
+                    // 쉬는 동안은 라인을 멈추고 다음 명령까지 대기
+                    if (line != null) {
+                        line.drain();
+                        line.stop();
+                    }
+
+                    Command command;
+
+                    try {
+                        command = commands.take();
+                    } catch (InterruptedException e) {
+                        break;
+                    }
+
+                    // 출력할 곳이 없으면 명령만 비움
+                    if (line == null) {
+                        continue;
+                    }
+
+                    apply(command);
+
+                    line.start();
+                }
+
+                Command command;
+
+                while ((command = commands.poll()) != null) {
+                    apply(command);
+                }
+
+                int frames =
+                        mixChunk(outBuffer);
+
+                if (frames > 0) {
+                    line.write(outBuffer, 0, frames * FRAME_BYTES);
+                }
+            }
+
+        } finally {
+
+            for (Track track : tracks) {
+                track.close();
+            }
+
+            tracks.clear();
+
+            if (line != null) {
+                line.close();
+            }
+        }
+    }
+
+    private SourceDataLine openLine() {
+
+        try {
+
+            SourceDataLine line =
+                    AudioSystem.getSourceDataLine(OUTPUT);
+
+            line.open(OUTPUT, CHUNK_FRAMES * FRAME_BYTES * LINE_BUFFER_CHUNKS);
+
+            return line;
+
+        } catch (LineUnavailableException e) {
+            e.printStackTrace();
+        } catch (IllegalArgumentException e) {
+            // 44.1kHz 스테레오 출력 라인이 없음 → null 이면 스트림 스레드는 명령만 비우고 소리는 내지 않는다
+            e.printStackTrace();
+        }
+
+        return null;
+    }
+
+    // ===============================
+    // Commands (stream thread)
+    // ===============================
+
+    private void apply(Command command) {
+
+        int fadeFrames =
+                Math.max(1, (int) (command.fadeSeconds * OUTPUT.getFrameRate()));
+
+        Track keep =
+                null;
+
+        if (command.path != null) {
+
+            for (Track track : tracks) {
+                if (track.path.equals(command.path)) {
+                    keep = track;
+                    break;
+                }
+            }
+
+            if (keep == null) {
+
+                keep =
+                        Track.open(command.path);
+
+                if (keep != null) {
+                    tracks.add(keep);
+                }
+            }
+        }
+
+        for (Track track : tracks) {
+
+            // 나오던 곡이면 그 자리에서 다시 키우고, 나머지는 줄인다
+            track.fadeTo(track == keep ? 1f : 0f, fadeFrames);
+        }
+
+        while (tracks.size() > MAX_TRACKS) {
+
+            Track quietest =
+                    null;
+
+            for (Track track : tracks) {
+                if (track != keep && (quietest == null || track.gain < quietest.gain)) {
+                    quietest = track;
+                }
+            }
+
+            quietest.close();
+
+            tracks.remove(quietest);
+        }
+    }
+
+    /** 대기 중인 명령을 지금 반영 (라인 없이 쓸 때) */
+    void applyPending() {
+
+        Command command;
+
+        while ((command = commands.poll()) != null) {
+            apply(command);
+        }
+    }
+
+    // ===============================
+    // Mixing (stream thread)
+    // ===============================
+
+    /**
+     * 재생 중인 곡들을 한 청크 섞어서 out 에 16비트 PCM 으로 쓴다.
+     * 쓴 프레임 수를 돌려주며, 섞을 곡이 없으면 0
+     */
+    int mixChunk(byte[] out) {
+
+        if (tracks.isEmpty()) {
+            return 0;
+        }
+
+        Arrays.fill(mixBuffer, 0f);
+
+        for (int i = tracks.size() - 1; i >= 0; i--) {
+
+            Track track =
+                    tracks.get(i);
+
+            boolean alive =
+                    track.mixInto(mixBuffer, CHUNK_FRAMES);
+
+            // 다 줄어든 곡, 읽을 수 없게 된 곡은 정리
+            if (!alive || track.isSilent()) {
+
+                track.close();
+
+                tracks.remove(i);
+            }
+        }
+
+        float master =
+                (float) Math.pow(10.0, volume / 20.0);
+
+        for (int i = 0, b = 0; i < mixBuffer.length; i++, b += 2) {
+
+            int s =
+                    Math.round(mixBuffer[i] * master);
+
+            s = Math.max(Short.MIN_VALUE, Math.min(Short.MAX_VALUE, s));
+
+            out[b]     = (byte) s;
+            out[b + 1] = (byte) (s >> 8);
+        }
+
+        return CHUNK_FRAMES;
+    }
+
+    int getTrackCount() {
+
+        return tracks.size();
+    }
+
+    // ===============================
+    // Track (한 곡의 스트림 + 볼륨 램프)
+    // ===============================
+
+    private static final class Track {
+
+        final String path;
+
+        private final File file;
+
+        private final byte[] readBuffer =
+                new byte[CHUNK_FRAMES * FRAME_BYTES];
+
+        private AudioInputStream stream;
+
+        float gain =
+                0f;
+
+        private float targetGain =
+                0f;
+
+        // 프레임당 gain 변화량
+        private float gainStep =
+                0f;
+
+        private Track(String path, File file, AudioInputStream stream) {
+
+            this.path = path;
+            this.file = file;
+            this.stream = stream;
+        }
+
+        static Track open(String path) {
+
+            File file =
+                    new File(path);
+
+            if (!file.exists()) {
+                System.err.println("사운드 파일 없음: " + path);
+                return null;
+            }
+
+            AudioInputStream stream =
+                    openStream(file);
+
+            return (stream != null)
+                    ? new Track(path, file, stream)
+                    : null;
+        }
+
+        private static AudioInputStream openStream(File file) {
+
+            InputStream in =
+                    null;
+
+            try {
+
+                in =
+                        new BufferedInputStream(Files.newInputStream(file.toPath()));
+
+                AudioInputStream source =
+                        AudioSystem.getAudioInputStream(in);
+
+                AudioFormat f =
+                        source.getFormat();
+
+                // 압축 형식이면 먼저 16비트 PCM 으로 풀고, 그다음 출력 형식(샘플레이트/채널)으로 맞춘다
+                if (f.getEncoding() != AudioFormat.Encoding.PCM_SIGNED
+                        && f.getEncoding() != AudioFormat.Encoding.PCM_UNSIGNED) {
+
+                    source =
+                            AudioSystem.getAudioInputStream(
+                                    new AudioFormat(
+                                            AudioFormat.Encoding.PCM_SIGNED,
+                                            f.getSampleRate(),
+                                            16,
+                                            f.getChannels(),
+                                            f.getChannels() * 2,
+                                            f.getSampleRate(),
+                                            false
+                                    ),
+                                    source
+                            );
+                }
+
+                if (source.getFormat().matches(OUTPUT)) {
+                    return source;
+                }
+
+                return AudioSystem.getAudioInputStream(OUTPUT, source);
+
+            } catch (UnsupportedAudioFileException e) {
+                e.printStackTrace();
+            } catch (IOException e) {
+                e.printStackTrace();
+            } catch (IllegalArgumentException e) {
+                // 출력 형식으로 바꿀 수 없는 파일
+                e.printStackTrace();
+            }
+
+            if (in != null) {
+                try {
+                    in.close();
+                } catch (IOException ignored) {
+                }
+            }
+
+            return null;
+        }
+
+        void fadeTo(float target, int frames) {
+
+            targetGain = target;
+
+            gainStep =
+                    (target - gain) / frames;
+        }
+
+        boolean isSilent() {
+
+            return targetGain == 0f && gain <= 0f;
+        }
+
+        /**
+         * frames 만큼 읽어 gain 을 곱해 mix 에 더한다.
+         * 곡 끝에 닿으면 바로 처음부터 다시 열어 같은 청크를 마저 채움 (반복 사이에 빈 구간 없음)
+         * 다시 열 수 없으면 false
+         */
+        boolean mixInto(float[] mix, int frames) {
+
+            int wanted =
+                    frames * FRAME_BYTES;
+
+            int filled =
+                    0;
+
+            boolean rewoundEmpty =
+                    false;
+
+            while (filled < wanted) {
+
+                int n;
+
+                try {
+                    n = stream.read(readBuffer, filled, wanted - filled);
+                } catch (IOException e) {
+                    e.printStackTrace();
+                    return false;
+                }
+
+                if (n > 0) {
+
+                    filled += n;
+
+                    rewoundEmpty = false;
+
+                    continue;
+                }
+
+                // 방금 다시 연 스트림도 비어 있으면 더 돌지 않음
+                if (rewoundEmpty) {
+                    return false;
+                }
+
+                close();
+
+                stream =
+                        openStream(file);
+
+                if (stream == null) {
+                    return false;
+                }
+
+                rewoundEmpty = true;
+            }
+
+            for (int f = 0, b = 0, m = 0; f < frames; f++) {
+
+                if (gain != targetGain) {
+
+                    gain += gainStep;
+
+                    if ((gainStep > 0f && gain > targetGain)
+                            || (gainStep < 0f && gain < targetGain)) {
+                        gain = targetGain;
+                    }
+                }
+
+                for (int c = 0; c < CHANNELS; c++, b += 2, m++) {
+
+                    int sample =
+                            (readBuffer[b] & 0xff) | (readBuffer[b + 1] << 8);
+
+                    mix[m] += sample * gain;
+                }
+            }
+
+            return true;
+        }
+
+        void close() {
+
+            if (stream == null) {
+                return;
+            }
+
+            try {
+                stream.close();
+            } catch (IOException ignored) {
+            }
+
+            stream = null;
+        }
+    }
+}
@@ -0,0 +1,117 @@
+/**
+ * 스테이지 스크롤 카메라 (월드 픽셀 좌표, 맵 영역 기준)
+ * - 가로는 플레이어를 화면 가운데에 두고 따라감
+ * - 세로는 플레이어가 화면 끝 한 칸 안쪽까지 올 때만 따라감
+ *   → 계속 튀어 오르는 플레이어 때문에 화면이 위아래로 흔들리지 않음
+ * - 맵 밖은 보여주지 않도록 월드 크기로 제한 (맵이 화면보다 작으면 0 에 고정)
+ * - 고정 틱 보간을 위해 직전 틱 위치를 따로 보관
+ */
+public class Camera {
+
+    private static final double VERTICAL_MARGIN =
+            StageSimulation.TILE_SIZE;
+
+    // ===============================
+    // Fields
+    // ===============================
+
+    private final int viewWidth;
+    private final int viewHeight;
+
+    private int worldWidth;
+    private int worldHeight;
+
+    private double x;
+    private double y;
+
+    private double prevX;
+    private double prevY;
+
+    // ===============================
+    // Constructor
+    // ===============================
+
+    public Camera(int viewWidth, int viewHeight) {
+
+        this.viewWidth = viewWidth;
+        this.viewHeight = viewHeight;
+    }
+
+    // ===============================
+    // Follow
+    // ===============================
+
+    public void setWorldSize(int worldWidth, int worldHeight) {
+
+        this.worldWidth = worldWidth;
+        this.worldHeight = worldHeight;
+    }
+
+    /** 고정 틱 한 번 진행하기 직전 위치 (렌더 보간용) */
+    public void savePreviousState() {
+
+        prevX = x;
+        prevY = y;
+    }
+
+    public void follow(Player player) {
+
+        double centerX =
+                player.getX() + player.getWidth() / 2.0;
+
+        x =
+                clamp(centerX - viewWidth / 2.0, worldWidth - viewWidth);
+
+        double top =
+                player.getY();
+
+        double bottom =
+                top + player.getHeight();
+
+        if (top < y + VERTICAL_MARGIN) {
+            y = top - VERTICAL_MARGIN;
+        } else if (bottom > y + viewHeight - VERTICAL_MARGIN) {
+            y = bottom - viewHeight + VERTICAL_MARGIN;
+        }
+
+        y =
+                clamp(y, worldHeight - viewHeight);
+    }
+
+    /** 스테이지 시작/리스폰: 보간 없이 바로 이동 */
+    public void snapTo(Player player) {
+
+        y = 0.0;
+
+        follow(player);
+
+        savePreviousState();
+    }
+
+    private static double clamp(double v, double max) {
+
+        return Math.max(0.0, Math.min(Math.max(0.0, max), v));
+    }
+
+    // ===============================
+    // Render Position
+    // ===============================
+
+    public int getRenderX(double alpha) {
+
+        return (int) Math.floor(prevX + (x - prevX) * alpha);
+    }
+
+    public int getRenderY(double alpha) {
+
+        return (int) Math.floor(prevY + (y - prevY) * alpha);
+    }
+
+    public int getViewWidth() {
+        return viewWidth;
+    }
+
+    public int getViewHeight() {
+        return viewHeight;
+    }
+}
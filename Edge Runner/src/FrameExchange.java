@@ -0,0 +1,161 @@
+import java.awt.Graphics2D;
+import java.awt.RenderingHints;
+import java.awt.image.BufferedImage;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * 이미지 렌더 경로용 트리플 버퍼 프레임 교환
+ * - back  : 게임 스레드만 그리는 버퍼
+ * - ready : 다 그린 최신 프레임 (원자적으로 back 과 맞바꿈)
+ * - front : EDT(paintComponent)만 그리는 버퍼
+ * 두 스레드 모두 락 없이 인덱스만 바꾸므로 서로 기다리지 않고,
+ * 화면에는 항상 완성된 프레임만 나간다.
+ */
+public class FrameExchange {
+
+    // ===============================
+    // Slot Encoding
+    // ===============================
+
+    private static final int INDEX_MASK =
+            0x3;
+
+    // ready 슬롯에 아직 화면에 안 나간 새 프레임이 있음
+    private static final int FRESH =
+            0x4;
+
+    // ===============================
+    // Fields
+    // ===============================
+
+    private final BufferedImage[] images =
+            new BufferedImage[3];
+
+    private final Graphics2D[] graphics =
+            new Graphics2D[3];
+
+    // 게임 스레드 전용
+    private int back =
+            0;
+
+    private final AtomicInteger ready =
+            new AtomicInteger(1);
+
+    // EDT 전용
+    private int front =
+            2;
+
+    private boolean anyPresented =
+            false;
+
+    private final AtomicLong published =
+            new AtomicLong();
+
+    private final AtomicLong presented =
+            new AtomicLong();
+
+    // 화면에 나가기 전에 더 새 프레임으로 덮인 수
+    private final AtomicLong dropped =
+            new AtomicLong();
+
+    // 새 프레임 없이 같은 프레임을 다시 그린 수
+    private final AtomicLong duplicated =
+            new AtomicLong();
+
+    // ===============================
+    // Constructor
+    // ===============================
+
+    public FrameExchange(int width, int height) {
+
+        for (int i = 0; i < images.length; i++) {
+
+            images[i] =
+                    new BufferedImage(
+                            width,
+                            height,
+                            BufferedImage.TYPE_INT_ARGB
+                    );
+
+            graphics[i] =
+                    images[i].createGraphics();
+
+            graphics[i].setRenderingHint(
+                    RenderingHints.KEY_ANTIALIASING,
+                    RenderingHints.VALUE_ANTIALIAS_ON
+            );
+        }
+    }
+
+    // ===============================
+    // Renderer (Game Thread)
+    // ===============================
+
+    /** 이번 프레임을 그릴 버퍼. publish 전까지 화면에 나가지 않는다 */
+    public Graphics2D getBackGraphics() {
+
+        return graphics[back];
+    }
+
+    /** 다 그린 back 을 ready 로 넘기고, 이전 ready 를 새 back 으로 받음 */
+    public void publish() {
+
+        int previous =
+                ready.getAndSet(back | FRESH);
+
+        if ((previous & FRESH) != 0) {
+            dropped.incrementAndGet();
+        }
+
+        back =
+                previous & INDEX_MASK;
+
+        published.incrementAndGet();
+    }
+
+    // ===============================
+    // Presenter (EDT)
+    // ===============================
+
+    /** 가장 최신 프레임. 새 프레임이 없으면 직전 프레임을 그대로 돌려준다 */
+    public BufferedImage acquireFront() {
+
+        if ((ready.get() & FRESH) != 0) {
+
+            front =
+                    ready.getAndSet(front) & INDEX_MASK;
+
+            anyPresented =
+                    true;
+
+            presented.incrementAndGet();
+
+        } else if (anyPresented) {
+
+            duplicated.incrementAndGet();
+        }
+
+        return images[front];
+    }
+
+    // ===============================
+    // Diagnostics
+    // ===============================
+
+    public long getPublishedCount() {
+        return published.get();
+    }
+
+    public long getPresentedCount() {
+        return presented.get();
+    }
+
+    public long getDroppedCount() {
+        return dropped.get();
+    }
+
+    public long getDuplicatedCount() {
+        return duplicated.get();
+    }
+}
@@ -0,0 +1,356 @@
+import java.lang.management.ManagementFactory;
+import java.lang.management.ThreadMXBean;
+import java.util.concurrent.locks.LockSupport;
+
+/**
+ * 게임 루프 프레임 페이싱
+ * - 남은 시간이 길면 Thread.sleep, 짧으면 LockSupport.parkNanos, 마지막 구간만 spin
+ * - sleep/park 가 실제로 얼마나 늦게 깨어나는지(OS 타이머 오차)를 측정해 스스로 보정
+ * - 프레임마다 게임 스레드의 CPU 사용률을 기록
+ */
+public class FramePacer {
+
+    // ===============================
+    // Frame Targets
+    // ===============================
+
+    public enum Target {
+
+        FPS_60(60),
+        FPS_120(120),
+        FPS_144(144),
+        UNCAPPED(0);
+
+        private final int fps;
+
+        // 콘솔/HUD 에서 매 프레임 쓰므로 미리 만들어 둠
+        private final String label;
+
+        Target(int fps) {
+            this.fps = fps;
+            this.label = (fps <= 0) ? "UNCAPPED" : fps + " FPS";
+        }
+
+        public int getFps() {
+            return fps;
+        }
+
+        public long getPeriodNanos() {
+
+            if (fps <= 0) {
+                return 0L;
+            }
+
+            return 1_000_000_000L / fps;
+        }
+
+        public String getLabel() {
+            return label;
+        }
+
+        public Target next() {
+
+            Target[] all =
+                    values();
+
+            return all[(ordinal() + 1) % all.length];
+        }
+
+        public static Target parse(String value, Target fallback) {
+
+            if (value == null) {
+                return fallback;
+            }
+
+            String v =
+                    value.trim().toLowerCase();
+
+            if (v.equals("uncapped") || v.equals("0")) {
+                return UNCAPPED;
+            }
+
+            for (Target t : values()) {
+                if (t.fps > 0 && v.equals(String.valueOf(t.fps))) {
+                    return t;
+                }
+            }
+
+            return fallback;
+        }
+    }
+
+    // ===============================
+    // Calibration Constants
+    // ===============================
+
+    private static final long ONE_MILLI_NANO =
+            1_000_000L;
+
+    // 이 시간 안쪽으로 남으면 park 도 하지 않고 spin
+    private static final long SPIN_WINDOW_NANO =
+            100_000L;
+
+    private static final long MAX_SLACK_NANO =
+            4_000_000L;
+
+    // ===============================
+    // State
+    // ===============================
+
+    private volatile Target target;
+
+    private long nextDeadline =
+            0L;
+
+    private long sleepSlackNanos =
+            ONE_MILLI_NANO;
+
+    private long parkSlackNanos =
+            60_000L;
+
+    // ===============================
+    // CPU Usage Tracking
+    // ===============================
+
+    private final ThreadMXBean threadBean =
+            ManagementFactory.getThreadMXBean();
+
+    private final boolean cpuTimeSupported;
+
+    private long frameStartWall =
+            0L;
+
+    private long frameStartCpu =
+            0L;
+
+    private double lastFrameCpuUsage =
+            0.0;
+
+    private double smoothedCpuUsage =
+            0.0;
+
+    // ===============================
+    // Constructor
+    // ===============================
+
+    public FramePacer(Target target) {
+
+        this.target =
+                target;
+
+        boolean supported =
+                threadBean.isCurrentThreadCpuTimeSupported();
+
+        if (supported && !threadBean.isThreadCpuTimeEnabled()) {
+            try {
+                threadBean.setThreadCpuTimeEnabled(true);
+            } catch (UnsupportedOperationException e) {
+                supported = false;
+            }
+        }
+
+        this.cpuTimeSupported =
+                supported;
+    }
+
+    // ===============================
+    // Loop Integration
+    // ===============================
+
+    /** 게임 스레드에서 루프 시작 직전에 호출 */
+    public void reset() {
+
+        long now =
+                System.nanoTime();
+
+        nextDeadline =
+                now + target.getPeriodNanos();
+
+        frameStartWall =
+                now;
+
+        frameStartCpu =
+                currentCpuTime();
+    }
+
+    /**
+     * 다음 프레임 시작 시각까지 대기
+     * UNCAPPED 이면 대기 없이 바로 돌아간다.
+     */
+    public void waitForNextFrame() {
+
+        long period =
+                target.getPeriodNanos();
+
+        if (period > 0L) {
+
+            waitUntil(nextDeadline);
+
+            long now =
+                    System.nanoTime();
+
+            nextDeadline += period;
+
+            // 한 프레임 이상 밀렸으면 몰아서 따라잡지 않고 기준점을 다시 잡음
+            if (now - nextDeadline > period) {
+                nextDeadline = now + period;
+            }
+        }
+
+        recordCpuUsage();
+    }
+
+    private void waitUntil(long deadline) {
+
+        while (true) {
+
+            long remaining =
+                    deadline - System.nanoTime();
+
+            if (remaining <= 0L) {
+                return;
+            }
+
+            if (remaining > sleepSlackNanos + ONE_MILLI_NANO) {
+
+                long sleepMillis =
+                        (remaining - sleepSlackNanos) / ONE_MILLI_NANO;
+
+                long before =
+                        System.nanoTime();
+
+                try {
+                    Thread.sleep(sleepMillis);
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                    return;
+                }
+
+                long overshoot =
+                        (System.nanoTime() - before) - sleepMillis * ONE_MILLI_NANO;
+
+                sleepSlackNanos =
+                        calibrate(sleepSlackNanos, overshoot);
+
+                continue;
+            }
+
+            if (remaining > parkSlackNanos + SPIN_WINDOW_NANO) {
+
+                long parkNanos =
+                        remaining - parkSlackNanos;
+
+                long before =
+                        System.nanoTime();
+
+                LockSupport.parkNanos(parkNanos);
+
+                long overshoot =
+                        (System.nanoTime() - before) - parkNanos;
+
+                parkSlackNanos =
+                        calibrate(parkSlackNanos, overshoot);
+
+                continue;
+            }
+
+            Thread.onSpinWait();
+        }
+    }
+
+    /** 늦게 깨어난 경우는 빠르게, 일찍 깨어난 경우는 천천히 반영 */
+    private long calibrate(long current, long measured) {
+
+        if (measured < 0L) {
+            measured = 0L;
+        }
+
+        long next =
+                (measured > current)
+                        ? current + (measured - current) / 2
+                        : current + (measured - current) / 16;
+
+        return Math.max(0L, Math.min(MAX_SLACK_NANO, next));
+    }
+
+    private void recordCpuUsage() {
+
+        long wallNow =
+                System.nanoTime();
+
+        long cpuNow =
+                currentCpuTime();
+
+        long wallElapsed =
+                wallNow - frameStartWall;
+
+        if (cpuTimeSupported && wallElapsed > 0L) {
+
+            lastFrameCpuUsage =
+                    Math.min(1.0, (cpuNow - frameStartCpu) / (double) wallElapsed);
+
+            smoothedCpuUsage +=
+                    (lastFrameCpuUsage - smoothedCpuUsage) * 0.1;
+        }
+
+        frameStartWall =
+                wallNow;
+
+        frameStartCpu =
+                cpuNow;
+    }
+
+    private long currentCpuTime() {
+
+        if (!cpuTimeSupported) {
+            return 0L;
+        }
+
+        return threadBean.getCurrentThreadCpuTime();
+    }
+
+    // ===============================
+    // Target Control
+    // ===============================
+
+    public Target getTarget() {
+        return target;
+    }
+
+    public void setTarget(Target target) {
+        this.target = target;
+    }
+
+    public Target cycleTarget() {
+
+        target =
+                target.next();
+
+        return target;
+    }
+
+    // ===============================
+    // Diagnostics
+    // ===============================
+
+    public boolean isCpuTimeSupported() {
+        return cpuTimeSupported;
+    }
+
+    /** 직전 프레임 동안 게임 스레드가 사용한 CPU 비율 (0~1) */
+    public double getLastFrameCpuUsage() {
+        return lastFrameCpuUsage;
+    }
+
+    public double getSmoothedCpuUsage() {
+        return smoothedCpuUsage;
+    }
+
+    public long getSleepSlackNanos() {
+        return sleepSlackNanos;
+    }
+
+    public long getParkSlackNanos() {
+        return parkSlackNanos;
+    }
+}
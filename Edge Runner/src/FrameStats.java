@@ -0,0 +1,294 @@
+import java.lang.management.GarbageCollectorMXBean;
+import java.lang.management.ManagementFactory;
+import java.lang.management.ThreadMXBean;
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * 프레임 단위 성능 기록 (디버그 콘솔의 성능 그래프용)
+ * - 최근 HISTORY 프레임의 전체 프레임 시간과 update / render / present 구간 시간
+ * - 프레임 시간 p50 / p99 / max
+ * - GC 횟수와 시간 (GarbageCollectorMXBean)
+ * - 게임 스레드가 프레임마다 할당한 바이트 (com.sun.management.ThreadMXBean)
+ *
+ * 기록과 조회 모두 게임 스레드에서만 호출한다. 기록 중에는 할당하지 않는다.
+ */
+public class FrameStats {
+
+    public static final int HISTORY = 240;
+
+    // 정렬은 비싸므로 백분위는 이 프레임 수마다 다시 계산
+    private static final int PERCENTILE_INTERVAL = 15;
+
+    // ===============================
+    // Ring Buffers
+    // ===============================
+
+    private final long[] frameNanos   = new long[HISTORY];
+    private final long[] updateNanos  = new long[HISTORY];
+    private final long[] renderNanos  = new long[HISTORY];
+    private final long[] presentNanos = new long[HISTORY];
+    private final long[] allocBytes   = new long[HISTORY];
+    private final int[]  gcEvents     = new int[HISTORY];
+
+    private int head  = 0;
+    private int count = 0;
+
+    private int framesSincePercentile = 0;
+
+    private final long[] sortScratch = new long[HISTORY];
+
+    // ===============================
+    // Summary (PERCENTILE_INTERVAL 마다 갱신)
+    // ===============================
+
+    private long p50Nanos;
+    private long p99Nanos;
+    private long maxNanos;
+
+    private long avgUpdateNanos;
+    private long avgRenderNanos;
+    private long avgPresentNanos;
+    private long avgAllocBytes;
+
+    private int windowGcEvents;
+
+    // ===============================
+    // JVM Counters
+    // ===============================
+
+    private final GarbageCollectorMXBean[] gcBeans;
+
+    private final com.sun.management.ThreadMXBean allocBean;
+
+    private long lastGcCount;
+    private long lastAllocated;
+
+    private long baseGcCount;
+    private long baseGcMillis;
+
+    public FrameStats() {
+
+        List<GarbageCollectorMXBean> beans =
+                ManagementFactory.getGarbageCollectorMXBeans();
+
+        gcBeans =
+                beans.toArray(new GarbageCollectorMXBean[0]);
+
+        ThreadMXBean threads =
+                ManagementFactory.getThreadMXBean();
+
+        com.sun.management.ThreadMXBean alloc =
+                null;
+
+        if (threads instanceof com.sun.management.ThreadMXBean) {
+
+            alloc =
+                    (com.sun.management.ThreadMXBean) threads;
+
+            if (!alloc.isThreadAllocatedMemorySupported()) {
+                alloc = null;
+            } else if (!alloc.isThreadAllocatedMemoryEnabled()) {
+                alloc.setThreadAllocatedMemoryEnabled(true);
+            }
+        }
+
+        allocBean =
+                alloc;
+
+        reset();
+    }
+
+    /** 게임 스레드에서 루프 시작 직전에 호출 (할당량 기준점이 스레드별이므로) */
+    public void reset() {
+
+        head = 0;
+        count = 0;
+
+        framesSincePercentile = 0;
+
+        lastGcCount = totalGcCount();
+
+        baseGcCount = lastGcCount;
+        baseGcMillis = totalGcMillis();
+
+        lastAllocated = currentAllocated();
+    }
+
+    // ===============================
+    // Recording
+    // ===============================
+
+    public void record(long frame, long update, long render, long present) {
+
+        long gcCount =
+                totalGcCount();
+
+        long allocated =
+                currentAllocated();
+
+        frameNanos[head]   = frame;
+        updateNanos[head]  = update;
+        renderNanos[head]  = render;
+        presentNanos[head] = present;
+        allocBytes[head]   = allocated - lastAllocated;
+        gcEvents[head]     = (int) (gcCount - lastGcCount);
+
+        lastGcCount = gcCount;
+        lastAllocated = allocated;
+
+        head = (head + 1) % HISTORY;
+
+        if (count < HISTORY) {
+            count++;
+        }
+
+        if (++framesSincePercentile >= PERCENTILE_INTERVAL) {
+            framesSincePercentile = 0;
+            summarize();
+        }
+    }
+
+    private void summarize() {
+
+        long update = 0L;
+        long render = 0L;
+        long present = 0L;
+        long alloc = 0L;
+
+        int gc = 0;
+
+        for (int i = 0; i < count; i++) {
+
+            sortScratch[i] = frameNanos[i];
+
+            update  += updateNanos[i];
+            render  += renderNanos[i];
+            present += presentNanos[i];
+            alloc   += allocBytes[i];
+
+            gc += gcEvents[i];
+        }
+
+        Arrays.sort(sortScratch, 0, count);
+
+        p50Nanos = sortScratch[(count - 1) / 2];
+        p99Nanos = sortScratch[Math.max(0, (int) Math.ceil(count * 0.99) - 1)];
+        maxNanos = sortScratch[count - 1];
+
+        avgUpdateNanos  = update  / count;
+        avgRenderNanos  = render  / count;
+        avgPresentNanos = present / count;
+        avgAllocBytes   = alloc   / count;
+
+        windowGcEvents = gc;
+    }
+
+    private long totalGcCount() {
+
+        long total = 0L;
+
+        for (GarbageCollectorMXBean bean : gcBeans) {
+            total += Math.max(0L, bean.getCollectionCount());
+        }
+
+        return total;
+    }
+
+    private long totalGcMillis() {
+
+        long total = 0L;
+
+        for (GarbageCollectorMXBean bean : gcBeans) {
+            total += Math.max(0L, bean.getCollectionTime());
+        }
+
+        return total;
+    }
+
+    private long currentAllocated() {
+
+        if (allocBean == null) {
+            return 0L;
+        }
+
+        return allocBean.getCurrentThreadAllocatedBytes();
+    }
+
+    // ===============================
+    // History Access (0 = 가장 오래된 프레임)
+    // ===============================
+
+    public int getCount() {
+        return count;
+    }
+
+    private int index(int i) {
+        return (head - count + i + HISTORY) % HISTORY;
+    }
+
+    public long getFrameNanos(int i) {
+        return frameNanos[index(i)];
+    }
+
+    /** update + render + present (대기 시간을 뺀 실제 작업 시간) */
+    public long getBusyNanos(int i) {
+
+        int k =
+                index(i);
+
+        return updateNanos[k] + renderNanos[k] + presentNanos[k];
+    }
+
+    public boolean hadGc(int i) {
+        return gcEvents[index(i)] > 0;
+    }
+
+    // ===============================
+    // Summary Access
+    // ===============================
+
+    public long getP50Nanos() {
+        return p50Nanos;
+    }
+
+    public long getP99Nanos() {
+        return p99Nanos;
+    }
+
+    public long getMaxNanos() {
+        return maxNanos;
+    }
+
+    public long getAvgUpdateNanos() {
+        return avgUpdateNanos;
+    }
+
+    public long getAvgRenderNanos() {
+        return avgRenderNanos;
+    }
+
+    public long getAvgPresentNanos() {
+        return avgPresentNanos;
+    }
+
+    public boolean isAllocTrackingSupported() {
+        return allocBean != null;
+    }
+
+    public long getAvgAllocBytes() {
+        return avgAllocBytes;
+    }
+
+    public int getWindowGcEvents() {
+        return windowGcEvents;
+    }
+
+    public long getGcCountSinceReset() {
+        return totalGcCount() - baseGcCount;
+    }
+
+    public long getGcMillisSinceReset() {
+        return totalGcMillis() - baseGcMillis;
+    }
+}
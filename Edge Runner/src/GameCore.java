@@ -1,31 +1,37 @@
-import java.io.IOException;
-
 import javax.swing.JFrame;
 import javax.swing.JPanel;
 import javax.swing.SwingUtilities;
 
-import javax.imageio.ImageIO;
-import javax.imageio.stream.ImageInputStream;
-
+import java.awt.AWTException;
+import java.awt.BufferCapabilities;
+import java.awt.Canvas;
 import java.awt.CardLayout;
 import java.awt.Color;
 import java.awt.Dimension;
 import java.awt.Font;
 import java.awt.Graphics;
 import java.awt.Graphics2D;
+import java.awt.GraphicsEnvironment;
+import java.awt.ImageCapabilities;
 import java.awt.Rectangle;
 import java.awt.RenderingHints;
+import java.awt.Toolkit;
 
+import java.awt.event.ComponentAdapter;
+import java.awt.event.ComponentEvent;
+import java.awt.event.FocusAdapter;
+import java.awt.event.FocusEvent;
 import java.awt.event.KeyEvent;
 import java.awt.event.KeyListener;
 
+import java.awt.image.BufferStrategy;
 import java.awt.image.BufferedImage;
 
 import java.io.File;
 
 import java.util.ArrayList;
-import java.util.Iterator;
 import java.util.List;
+import java.util.concurrent.CompletableFuture;
 
 public class GameCore {
 
@@ -34,10 +40,21 @@ public class GameCore {
 
     private static SoundManager soundManager;
 
+    private static AssetManager assetManager;
+
     public static SoundManager getSoundManager() {
         return soundManager;
     }
 
+    public static synchronized AssetManager getAssetManager() {
+
+        if (assetManager == null) {
+            assetManager = new AssetManager();
+        }
+
+        return assetManager;
+    }
+
     public static void main(String[] args) {
 
         soundManager =
@@ -117,30 +134,112 @@ public class GameCore {
         PAUSE
     }
 
-    public static class GamePanel extends JPanel implements Runnable, KeyListener {
+    public static class GamePanel extends JPanel
+            implements Runnable, KeyListener, StageSimulation.Listener {
 
         public static final int WIDTH  = 960;
         public static final int HEIGHT = 540;
 
-        public static final int TILE_SIZE = 32;
+        public static final int TILE_SIZE = StageSimulation.TILE_SIZE;
 
         private static final int MAP_OFFSET_Y = 60;
 
-        private static final double TARGET_FPS      = 60.0;
-        private static final double FRAME_TIME_NANO =
-                1_000_000_000.0 / TARGET_FPS;
+        private final FramePacer framePacer =
+                new FramePacer(
+                        FramePacer.Target.parse(
+                                System.getProperty("edgerunner.fps"),
+                                FramePacer.Target.FPS_60
+                        )
+                );
+
+        // ===============================
+        // Fixed-Step Simulation
+        // ===============================
+
+        private static final boolean FIXED_STEP =
+                Boolean.parseBoolean(
+                        System.getProperty("edgerunner.fixedStep", "true")
+                );
+
+        private static final double SIM_HZ =
+                120.0;
+
+        private static final double SIM_STEP =
+                1.0 / SIM_HZ;
+
+        // 한 프레임이 너무 늦으면 따라잡기를 포기 (spiral of death 방지)
+        private static final double MAX_FRAME_DT =
+                0.25;
+
+        private static final int MAX_STEPS_PER_FRAME =
+                (int) (MAX_FRAME_DT * SIM_HZ);
+
+        private double simAccumulator =
+                0.0;
+
+        private double renderAlpha =
+                1.0;
+
+        // 이미지 경로: 게임 스레드가 그리고 paintComponent(EDT)가 가져가는 3중 버퍼
+        private FrameExchange frameExchange;
+
+        // ===============================
+        // Active Rendering (Canvas + BufferStrategy)
+        // ===============================
 
-        private BufferedImage backBuffer;
-        private Graphics2D    backG;
+        private static final boolean ACTIVE_RENDERING_REQUESTED =
+                !"image".equalsIgnoreCase(
+                        System.getProperty("edgerunner.render", "canvas")
+                );
+
+        private Canvas renderCanvas;
+
+        private BufferStrategy bufferStrategy;
+
+        private volatile boolean activeRenderingFailed =
+                false;
 
         private Thread gameThread;
 
         private volatile boolean running = false;
 
+        // 게임 스레드만 바꾼다 (EDT 입력은 inputEvents 를 거쳐 들어옴)
         private GameState state = GameState.INTRO;
 
-        private boolean leftPressed  = false;
-        private boolean rightPressed = false;
+        private final KeyboardInput keyboardInput =
+                new KeyboardInput();
+
+        // ===============================
+        // Input Events (EDT → Game Thread)
+        // ===============================
+
+        private static final int INPUT_QUEUE_CAPACITY =
+                256;
+
+        private static final long THREAD_JOIN_TIMEOUT_MS =
+                500L;
+
+        private final InputEventQueue inputEvents =
+                new InputEventQueue(INPUT_QUEUE_CAPACITY);
+
+        // ===============================
+        // Input Recording (replays/*.errp)
+        // ===============================
+
+        // 가변 틱에서는 같은 입력으로도 결과가 달라지므로 고정 틱일 때만 기록
+        private static final boolean RECORD_INPUT =
+                FIXED_STEP
+                        && Boolean.parseBoolean(
+                                System.getProperty("edgerunner.record", "true")
+                        );
+
+        private static final File REPLAY_DIR =
+                new File(
+                        System.getProperty("edgerunner.replayDir", "replays")
+                );
+
+        private final InputRecorder inputRecorder =
+                new InputRecorder(keyboardInput);
 
         private double currentFps = 0.0;
 
@@ -159,33 +258,39 @@ public class GameCore {
 
         private boolean finalResultGood = false;
 
-        private MapLoader.MapData currentMap;
-
-        private Player player;
-
-        private int totalStarsInStage = 0;
-        private int collectedStars    = 0;
+        private final StageSimulation sim =
+                new StageSimulation();
 
         private boolean waitingForQuestionAnswer = false;
         private boolean lastAnswerCorrect        = false;
 
         private MCQ currentQuiz;
 
-        private BufferedImage basicStandImg;
-        private BufferedImage basicJumpImg;
+        // 플레이어/타일/코인/보석은 화면 크기로 줄여 아틀라스 한 장에 (applyLoadedAssets 에서 생성)
+        private SpriteAtlas sprites =
+                new SpriteAtlas();
+
+        private int basicStandSprite  = SpriteAtlas.NONE;
+        private int basicJumpSprite   = SpriteAtlas.NONE;
+
+        private int yellowStandSprite = SpriteAtlas.NONE;
+        private int yellowJumpSprite  = SpriteAtlas.NONE;
 
-        private BufferedImage yellowStandImg;
-        private BufferedImage yellowJumpImg;
+        private int blueStandSprite   = SpriteAtlas.NONE;
+        private int blueJumpSprite    = SpriteAtlas.NONE;
 
-        private BufferedImage blueStandImg;
-        private BufferedImage blueJumpImg;
+        private int tileLavaSprite    = SpriteAtlas.NONE;
 
-        private BufferedImage tileLavaImg;
+        private int coinSprite        = SpriteAtlas.NONE;
 
-        private BufferedImage coinImg;
+        private int gemYellowSprite   = SpriteAtlas.NONE;
+        private int gemBlueSprite     = SpriteAtlas.NONE;
 
-        private BufferedImage gemYellowImg;
-        private BufferedImage gemBlueImg;
+        private static final int PLAYER_SPRITE_W =
+                (int) StageSimulation.PLAYER_WIDTH;
+
+        private static final int PLAYER_SPRITE_H =
+                (int) StageSimulation.PLAYER_HEIGHT;
 
         private BufferedImage introBGImg;
 
@@ -198,6 +303,22 @@ public class GameCore {
         private BufferedImage bgStage2Img;
         private BufferedImage bgStage3Img;
 
+        private static final String BASIC_STAND_PATH  = "image/alienBiege_stand.png";
+        private static final String BASIC_JUMP_PATH   = "image/alienBiege_jump.png";
+        private static final String YELLOW_STAND_PATH = "image/alienYellow_stand.png";
+        private static final String YELLOW_JUMP_PATH  = "image/alienYellow_jump.png";
+        private static final String BLUE_STAND_PATH   = "image/alienBlue_stand.png";
+        private static final String BLUE_JUMP_PATH    = "image/alienBlue_jump.png";
+
+        private static final String TILE_LAVA_PATH    = "image/lava.png";
+        private static final String COIN_PATH         = "image/coinGold.png";
+        private static final String GEM_YELLOW_PATH   = "image/gemYellow.png";
+        private static final String GEM_BLUE_PATH     = "image/gemBlue.png";
+
+        private static final String INTRO_BG_PATH     = "image/Intro.png";
+        private static final String GOOD_ENDING_PATH  = "image/Ending_A.png";
+        private static final String BAD_ENDING_PATH   = "image/Ending_B.png";
+
         private static final String BG_TUTORIAL_PATH =
                 "image/bg_tutorial.jpg";
 
@@ -210,6 +331,28 @@ public class GameCore {
         private static final String BG_STAGE3_PATH =
                 "image/bg_stage3.jpg";
 
+        private static final String[] IMAGE_PATHS = {
+                BASIC_STAND_PATH,
+                BASIC_JUMP_PATH,
+                YELLOW_STAND_PATH,
+                YELLOW_JUMP_PATH,
+                BLUE_STAND_PATH,
+                BLUE_JUMP_PATH,
+                TILE_LAVA_PATH,
+                COIN_PATH,
+                GEM_YELLOW_PATH,
+                GEM_BLUE_PATH,
+                INTRO_BG_PATH,
+                GOOD_ENDING_PATH,
+                BAD_ENDING_PATH,
+                BG_TUTORIAL_PATH,
+                BG_STAGE1_PATH,
+                BG_STAGE2_PATH,
+                BG_STAGE3_PATH
+        };
+
+        private volatile CompletableFuture<Void> pendingAssets;
+
         private double coinAnimTime = 0.0;
 
         private PausePanel pausePanel;
@@ -220,13 +363,11 @@ public class GameCore {
         private IntroManager introManager =
                 new IntroManager();
 
-        private double phase2TypingTimer     = 0.0;
-        private int    phase2CurrentCharIndex = 0;
+        // 마지막 엔딩 두 번째 화면: 줄바꿈도 한 글자 시간만큼 쉬고 다음 줄로
+        private final Typewriter phase2Typing =
+                new Typewriter(0.1, 0.1);
 
-        private final double phase2TextDisplaySpeed =
-                0.1;
-
-        private String finalEndingPhase2Text;
+        private TypedScript finalEndingPhase2Script;
 
         private boolean phase2TypingSoundPlaying =
                 false;
@@ -239,8 +380,10 @@ public class GameCore {
         private static final double LAVA_FPS =
                 12.0;
 
-        private List<BufferedImage> lavaFrames =
-                new ArrayList<>();
+        // 첫 스테이지를 열 때 요청 → 로더 스레드에서 32x32 프레임 띠로 디코딩, 준비되면 strip 에 반영
+        private CompletableFuture<AnimationStrip> lavaRequest;
+
+        private AnimationStrip lavaStrip;
 
         private double lavaAnimTime =
                 0.0;
@@ -251,21 +394,13 @@ public class GameCore {
         private static final double GEAR_FPS =
                 12.0;
 
-        private List<BufferedImage> gearFrames =
-                new ArrayList<>();
+        private CompletableFuture<AnimationStrip> gearRequest;
+
+        private AnimationStrip gearStrip;
 
         private double gearAnimTime =
                 0.0;
 
-        private static final double GEAR_MOVE_TILES =
-                1.5;
-
-        private static final double GEAR_MOVE_SPEED =
-                1.8;
-
-        private final List<Gear> gears =
-                new ArrayList<>();
-
         private boolean tutMovedOnce  = false;
         private boolean tutShownMove  = false;
         private boolean tutShownGem   = false;
@@ -283,16 +418,93 @@ public class GameCore {
         private boolean consoleOpen       = false;
         private boolean debugDrawHitbox   = false;
         private boolean debugShowInfo     = false;
-
-        private boolean invincible =
-                false;
-
-        private double speedMul   = 1.0;
-        private double gravityMul = 1.0;
+        private boolean perfOverlayOn     = false;
 
         private final KeyMap keys =
                 new KeyMap();
 
+        // 성능 그래프용 프레임 기록 (게임 스레드 전용)
+        private final FrameStats frameStats =
+                new FrameStats();
+
+        // 이번 프레임 render() 에 걸린 시간 (present 구간과 분리용)
+        private long lastRenderNanos =
+                0L;
+
+        private final TileLayerCache tileLayer =
+                new TileLayerCache(TILE_SIZE);
+
+        // 맵 영역(HUD 줄 아래) 크기의 스크롤 카메라
+        private final Camera camera =
+                new Camera(WIDTH, HEIGHT - MAP_OFFSET_Y);
+
+        // 배경(스테이지/인트로/엔딩)은 그릴 크기의 불투명 호환 이미지로 한 번만 변환
+        private final BackdropCache backdrops =
+                new BackdropCache();
+
+        // drawGears 전용 화면 안 톱니 목록 (프레임마다 재사용)
+        private final SpatialHash.Result visibleGears =
+                new SpatialHash.Result();
+
+        private final TileLayerCache.TilePainter tilePainter =
+                this::drawOneTile;
+
+        // ===============================
+        // Text / Colors (프레임마다 Font, Color, String 을 만들지 않도록 미리 생성)
+        // ===============================
+
+        private final TextStyle hudText14     = new TextStyle(Font.DIALOG, Font.BOLD, 14);
+        private final TextStyle hudText16     = new TextStyle(Font.DIALOG, Font.BOLD, 16);
+        private final TextStyle hudText24     = new TextStyle(Font.DIALOG, Font.BOLD, 24);
+        private final TextStyle dialogPlain14 = new TextStyle(Font.DIALOG, Font.PLAIN, 14);
+        private final TextStyle dialogPlain20 = new TextStyle(Font.DIALOG, Font.PLAIN, 20);
+        private final TextStyle dialogBold20  = new TextStyle(Font.DIALOG, Font.BOLD, 20);
+        private final TextStyle dialogBold22  = new TextStyle(Font.DIALOG, Font.BOLD, 22);
+
+        private final TextStyle sansPlain13 = new TextStyle(Font.SANS_SERIF, Font.PLAIN, 13);
+        private final TextStyle sansPlain16 = new TextStyle(Font.SANS_SERIF, Font.PLAIN, 16);
+        private final TextStyle sansPlain18 = new TextStyle(Font.SANS_SERIF, Font.PLAIN, 18);
+        private final TextStyle sansPlain22 = new TextStyle(Font.SANS_SERIF, Font.PLAIN, 22);
+        private final TextStyle sansBold14  = new TextStyle(Font.SANS_SERIF, Font.BOLD, 14);
+        private final TextStyle sansBold16  = new TextStyle(Font.SANS_SERIF, Font.BOLD, 16);
+        private final TextStyle sansBold18  = new TextStyle(Font.SANS_SERIF, Font.BOLD, 18);
+        private final TextStyle sansBold22  = new TextStyle(Font.SANS_SERIF, Font.BOLD, 22);
+        private final TextStyle sansBold30  = new TextStyle(Font.SANS_SERIF, Font.BOLD, 30);
+        private final TextStyle sansBold56  = new TextStyle(Font.SANS_SERIF, Font.BOLD, 56);
+
+        private final TextStyle monoPlain12 = new TextStyle(Font.MONOSPACED, Font.PLAIN, 12);
+
+        private final TextBuffer textLine =
+                new TextBuffer(128);
+
+        private static final Color DIM_150          = new Color(0, 0, 0, 150);
+        private static final Color DIM_180          = new Color(0, 0, 0, 180);
+        private static final Color DIM_200          = new Color(0, 0, 0, 200);
+        private static final Color TILE_HITBOX      = new Color(0, 0, 0, 60);
+        private static final Color GEAR_HITBOX      = new Color(255, 0, 0, 160);
+        private static final Color DOOR_FALLBACK    = new Color(120, 80, 40);
+        private static final Color QUIZ_CHOICE      = new Color(255, 255, 120);
+        private static final Color STORY_BG         = new Color(20, 20, 40);
+        private static final Color STORY_BOX        = new Color(20, 20, 40, 204);
+        private static final Color SPEAKER_BOX      = new Color(40, 40, 60, 220);
+        private static final Color SPEAKER_TEXT     = new Color(200, 200, 255);
+        private static final Color GOOD_TITLE       = new Color(100, 200, 255);
+        private static final Color FINAL_GOOD_TITLE = new Color(150, 220, 255);
+        private static final Color BAD_TITLE        = new Color(255, 150, 150);
+        private static final Color PROMPT_GREEN     = new Color(100, 255, 100);
+        private static final Color HINT_BG          = new Color(0, 0, 0, 170);
+        private static final Color HINT_TEXT        = new Color(255, 255, 180);
+        private static final Color CONSOLE_BG       = new Color(10, 10, 10, 200);
+        private static final Color CONSOLE_TEXT     = new Color(255, 255, 255, 220);
+        private static final Color CONSOLE_NOTE     = new Color(255, 255, 120, 220);
+        private static final Color PERF_BG          = new Color(0, 0, 0, 170);
+        private static final Color PERF_BAR_OK      = new Color(90, 200, 90);
+        private static final Color PERF_BAR_LATE    = new Color(230, 200, 60);
+        private static final Color PERF_BAR_SLOW    = new Color(230, 70, 60);
+        private static final Color PERF_BAR_BUSY    = new Color(40, 110, 200);
+        private static final Color PERF_GC_MARK     = new Color(255, 80, 255);
+        private static final Color PERF_BUDGET_LINE = new Color(255, 255, 255, 120);
+
         public GamePanel(JPanel mainContainer) {
 
             this.mainContainer =
@@ -315,7 +527,34 @@ public class GameCore {
                     this
             );
 
-            initBackBuffer();
+            // 창 크기/화면 장치가 바뀌면 배경을 그 환경에 맞게 다시 준비
+            addComponentListener(
+                    new ComponentAdapter() {
+                        @Override
+                        public void componentResized(ComponentEvent e) {
+                            backdrops.markStale();
+                        }
+                    }
+            );
+
+            // 창이 포커스를 잃으면 keyReleased 가 오지 않으므로 모두 뗀 것으로 처리
+            addFocusListener(
+                    new FocusAdapter() {
+                        @Override
+                        public void focusLost(FocusEvent e) {
+                            inputEvents.offer(InputEventQueue.RELEASE_ALL, 0);
+                        }
+                    }
+            );
+
+            sim.setListener(
+                    this
+            );
+
+            frameExchange =
+                    new FrameExchange(WIDTH, HEIGHT);
+
+            initRenderCanvas();
 
             loadImages();
 
@@ -324,195 +563,313 @@ public class GameCore {
             );
         }
 
-        private void initBackBuffer() {
+        /**
+         * 시작 시 Canvas 기반 능동 렌더링을 준비한다.
+         * 헤드리스이거나 -Dedgerunner.render=image 이면 기존 BufferedImage + repaint() 경로만 사용.
+         */
+        private void initRenderCanvas() {
 
-            backBuffer =
-                    new BufferedImage(
-                            WIDTH,
-                            HEIGHT,
-                            BufferedImage.TYPE_INT_ARGB
-                    );
+            if (!ACTIVE_RENDERING_REQUESTED || GraphicsEnvironment.isHeadless()) {
+                return;
+            }
 
-            backG =
-                    backBuffer.createGraphics();
+            renderCanvas =
+                    new Canvas();
 
-            backG.setRenderingHint(
-                    RenderingHints.KEY_ANTIALIASING,
-                    RenderingHints.VALUE_ANTIALIAS_ON
+            renderCanvas.setBounds(
+                    0,
+                    0,
+                    WIDTH,
+                    HEIGHT
+            );
+
+            renderCanvas.setIgnoreRepaint(
+                    true
+            );
+
+            // 키 입력은 계속 GamePanel 이 받도록
+            renderCanvas.setFocusable(
+                    false
+            );
+
+            add(
+                    renderCanvas
             );
         }
 
-        private void loadImages() {
+        private boolean ensureBufferStrategy() {
+
+            if (renderCanvas == null || activeRenderingFailed) {
+                return false;
+            }
+
+            if (!renderCanvas.isDisplayable() || !renderCanvas.isVisible()) {
+                return false;
+            }
+
+            if (bufferStrategy != null) {
+                return true;
+            }
 
             try {
 
-                basicStandImg  = ImageIO.read(
-                        new File("image/alienBiege_stand.png")
-                );
+                try {
 
-                basicJumpImg   = ImageIO.read(
-                        new File("image/alienBiege_jump.png")
-                );
+                    renderCanvas.createBufferStrategy(
+                            2,
+                            new BufferCapabilities(
+                                    new ImageCapabilities(true),
+                                    new ImageCapabilities(true),
+                                    BufferCapabilities.FlipContents.UNDEFINED
+                            )
+                    );
 
-                yellowStandImg = ImageIO.read(
-                        new File("image/alienYellow_stand.png")
-                );
+                } catch (AWTException e) {
 
-                yellowJumpImg  = ImageIO.read(
-                        new File("image/alienYellow_jump.png")
-                );
+                    // 페이지 플리핑 불가 → 가속 VolatileImage 블리트 방식
+                    renderCanvas.createBufferStrategy(
+                            2
+                    );
+                }
 
-                blueStandImg   = ImageIO.read(
-                        new File("image/alienBlue_stand.png")
-                );
+                bufferStrategy =
+                        renderCanvas.getBufferStrategy();
 
-                blueJumpImg    = ImageIO.read(
-                        new File("image/alienBlue_jump.png")
-                );
+            } catch (RuntimeException e) {
 
-                tileLavaImg    = ImageIO.read(
-                        new File("image/lava.png")
-                );
+                e.printStackTrace();
 
-                coinImg        = ImageIO.read(
-                        new File("image/coinGold.png")
-                );
+                bufferStrategy =
+                        null;
+            }
 
-                gemYellowImg   = ImageIO.read(
-                        new File("image/gemYellow.png")
-                );
+            if (bufferStrategy == null) {
+                disableActiveRendering();
+                return false;
+            }
 
-                gemBlueImg     = ImageIO.read(
-                        new File("image/gemBlue.png")
-                );
+            return true;
+        }
 
-                introBGImg     = ImageIO.read(
-                        new File("image/Intro.png")
-                );
+        /** 지금 Canvas 로 바로 그리는 중인지 (아니면 FrameExchange + repaint 경로) */
+        private boolean isActiveRendering() {
 
-                goodEndingBG   = ImageIO.read(
-                        new File("image/Ending_A.png")
-                );
+            return bufferStrategy != null && !activeRenderingFailed;
+        }
 
-                badEndingBG    = ImageIO.read(
-                        new File("image/Ending_B.png")
-                );
+        private void disableActiveRendering() {
 
-                bgTutorialImg  =
-                        safeRead(
-                                BG_TUTORIAL_PATH
-                        );
+            activeRenderingFailed =
+                    true;
 
-                bgStage1Img    =
-                        safeRead(
-                                BG_STAGE1_PATH
-                        );
+            Canvas canvas =
+                    renderCanvas;
 
-                bgStage2Img    =
-                        safeRead(
-                                BG_STAGE2_PATH
-                        );
+            if (canvas == null) {
+                return;
+            }
 
-                bgStage3Img    =
-                        safeRead(
-                                BG_STAGE3_PATH
-                        );
+            SwingUtilities.invokeLater(
+                    () -> {
+                        remove(canvas);
+                        revalidate();
+                        repaint();
+                    }
+            );
+        }
 
-            } catch (IOException e) {
+        private void setRenderCanvasVisible(boolean visible) {
 
-                e.printStackTrace();
+            if (renderCanvas == null || activeRenderingFailed) {
+                return;
+            }
+
+            renderCanvas.setVisible(
+                    visible
+            );
+        }
 
+        private void renderFrame() {
+
+            if (ensureBufferStrategy()) {
+
+                presentToCanvas();
+
+                return;
             }
 
-            lavaFrames =
-                    loadGifFrames(
-                            LAVA_GIF_PATH
-                    );
+            long renderStart =
+                    System.nanoTime();
 
-            gearFrames =
-                    loadGifFrames(
-                            GEAR_GIF_PATH
-                    );
+            render(frameExchange.getBackGraphics());
+
+            frameExchange.publish();
+
+            lastRenderNanos =
+                    System.nanoTime() - renderStart;
+
+            repaint();
         }
 
-        private BufferedImage safeRead(String path) {
+        private void presentToCanvas() {
+
+            lastRenderNanos =
+                    0L;
 
             try {
 
-                File f =
-                        new File(path);
+                do {
 
-                if (!f.exists()) {
-                    return null;
-                }
+                    do {
 
-                return ImageIO.read(
-                        f
-                );
+                        Graphics2D g =
+                                (Graphics2D) bufferStrategy.getDrawGraphics();
 
-            } catch (IOException e) {
+                        try {
+
+                            g.setRenderingHint(
+                                    RenderingHints.KEY_ANTIALIASING,
+                                    RenderingHints.VALUE_ANTIALIAS_ON
+                            );
 
-                return null;
+                            long renderStart =
+                                    System.nanoTime();
 
+                            render(g);
+
+                            lastRenderNanos +=
+                                    System.nanoTime() - renderStart;
+
+                        } finally {
+                            g.dispose();
+                        }
+
+                    } while (bufferStrategy.contentsRestored());
+
+                    bufferStrategy.show();
+
+                } while (bufferStrategy.contentsLost());
+
+                Toolkit.getDefaultToolkit().sync();
+
+            } catch (IllegalStateException e) {
+
+                // 캔버스가 화면에서 떨어진 경우: 다음 프레임에 다시 생성
+                bufferStrategy =
+                        null;
             }
         }
 
-        private List<BufferedImage> loadGifFrames(String path) {
+        /**
+         * 이미지 로딩은 AssetManager 풀에서 병렬로 진행하고 여기서는 요청만 한다.
+         * 결과는 게임 스레드의 render() 에서 applyLoadedAssets() 로 필드에 반영.
+         */
+        private void loadImages() {
+
+            AssetManager assets =
+                    GameCore.getAssetManager();
 
-            List<BufferedImage> frames =
+            List<CompletableFuture<?>> requests =
                     new ArrayList<>();
 
-            try (
-                    ImageInputStream stream =
-                            ImageIO.createImageInputStream(
-                                    new File(path)
-                            )
-            ) {
+            for (String path : IMAGE_PATHS) {
+                requests.add(assets.loadImage(path));
+            }
 
-                Iterator<javax.imageio.ImageReader> readers =
-                        ImageIO.getImageReadersByFormatName(
-                                "gif"
-                        );
+            pendingAssets =
+                    CompletableFuture.allOf(
+                            requests.toArray(new CompletableFuture<?>[0])
+                    );
+        }
 
-                if (!readers.hasNext()) {
-                    return frames;
-                }
+        private void pollLoadedAssets() {
 
-                javax.imageio.ImageReader reader =
-                        readers.next();
+            CompletableFuture<Void> pending =
+                    pendingAssets;
 
-                reader.setInput(
-                        stream,
-                        false
-                );
+            if (pending == null || !pending.isDone()) {
+                return;
+            }
 
-                int count =
-                        reader.getNumImages(true);
+            pendingAssets =
+                    null;
 
-                for (int i = 0; i < count; i++) {
+            applyLoadedAssets();
+        }
 
-                    BufferedImage frame =
-                            reader.read(i);
+        private void applyLoadedAssets() {
 
-                    if (frame != null) {
-                        frames.add(frame);
-                    }
-                }
+            AssetManager assets =
+                    GameCore.getAssetManager();
 
-                reader.dispose();
+            introBGImg     = assets.getImage(INTRO_BG_PATH);
 
-            } catch (Exception e) {
+            goodEndingBG   = assets.getImage(GOOD_ENDING_PATH);
+            badEndingBG    = assets.getImage(BAD_ENDING_PATH);
 
-                e.printStackTrace();
+            bgTutorialImg  = assets.getImage(BG_TUTORIAL_PATH);
+            bgStage1Img    = assets.getImage(BG_STAGE1_PATH);
+            bgStage2Img    = assets.getImage(BG_STAGE2_PATH);
+            bgStage3Img    = assets.getImage(BG_STAGE3_PATH);
+
+            buildSpriteAtlas(assets);
+
+            // 폴백 그림으로 구워졌을 수 있으니 타일 레이어를 다시 굽는다
+            tileLayer.invalidate();
+        }
+
+        /** 원본(플레이어 133x184 등)을 그려질 크기로 한 번만 줄여서 한 장에 모은다 */
+        private void buildSpriteAtlas(AssetManager assets) {
+
+            SpriteAtlas atlas =
+                    new SpriteAtlas();
+
+            basicStandSprite  = atlas.add(assets.getImage(BASIC_STAND_PATH),  PLAYER_SPRITE_W, PLAYER_SPRITE_H);
+            basicJumpSprite   = atlas.add(assets.getImage(BASIC_JUMP_PATH),   PLAYER_SPRITE_W, PLAYER_SPRITE_H);
 
+            yellowStandSprite = atlas.add(assets.getImage(YELLOW_STAND_PATH), PLAYER_SPRITE_W, PLAYER_SPRITE_H);
+            yellowJumpSprite  = atlas.add(assets.getImage(YELLOW_JUMP_PATH),  PLAYER_SPRITE_W, PLAYER_SPRITE_H);
+
+            blueStandSprite   = atlas.add(assets.getImage(BLUE_STAND_PATH),   PLAYER_SPRITE_W, PLAYER_SPRITE_H);
+            blueJumpSprite    = atlas.add(assets.getImage(BLUE_JUMP_PATH),    PLAYER_SPRITE_W, PLAYER_SPRITE_H);
+
+            tileLavaSprite    = atlas.add(assets.getImage(TILE_LAVA_PATH),    TILE_SIZE, TILE_SIZE);
+
+            coinSprite        = atlas.add(assets.getImage(COIN_PATH),         TILE_SIZE, TILE_SIZE);
+
+            gemYellowSprite   = atlas.add(assets.getImage(GEM_YELLOW_PATH),   TILE_SIZE, TILE_SIZE);
+            gemBlueSprite     = atlas.add(assets.getImage(GEM_BLUE_PATH),     TILE_SIZE, TILE_SIZE);
+
+            atlas.pack();
+
+            sprites =
+                    atlas;
+        }
+
+        /** 용암/톱니 GIF 는 스테이지에서만 쓰므로 처음 스테이지를 열 때 디코딩을 요청 */
+        private void requestAnimations() {
+
+            if (lavaRequest != null) {
+                return;
             }
 
-            return frames;
+            AssetManager assets =
+                    GameCore.getAssetManager();
+
+            lavaRequest =
+                    assets.loadAnimation(LAVA_GIF_PATH, TILE_SIZE, TILE_SIZE);
+
+            gearRequest =
+                    assets.loadAnimation(GEAR_GIF_PATH, TILE_SIZE, TILE_SIZE);
         }
 
         private void drawAnimatedLava(Graphics2D g, int px, int py) {
 
-            if (lavaFrames == null || lavaFrames.isEmpty()) {
+            if (lavaStrip == null) {
+                lavaStrip = AssetManager.getIfReady(lavaRequest);
+            }
+
+            if (lavaStrip == null) {
 
                 g.setColor(
                         Color.ORANGE
@@ -530,21 +887,18 @@ public class GameCore {
 
             int idx =
                     (int) (lavaAnimTime * LAVA_FPS)
-                            % lavaFrames.size();
-
-            g.drawImage(
-                    lavaFrames.get(idx),
-                    px,
-                    py,
-                    TILE_SIZE,
-                    TILE_SIZE,
-                    null
-            );
+                            % lavaStrip.frameCount();
+
+            lavaStrip.draw(g, idx, px, py);
         }
 
         private void drawAnimatedGear(Graphics2D g, int px, int py) {
 
-            if (gearFrames == null || gearFrames.isEmpty()) {
+            if (gearStrip == null) {
+                gearStrip = AssetManager.getIfReady(gearRequest);
+            }
+
+            if (gearStrip == null) {
 
                 g.setColor(
                         Color.GRAY
@@ -562,16 +916,9 @@ public class GameCore {
 
             int idx =
                     (int) (gearAnimTime * GEAR_FPS)
-                            % gearFrames.size();
-
-            g.drawImage(
-                    gearFrames.get(idx),
-                    px,
-                    py,
-                    TILE_SIZE,
-                    TILE_SIZE,
-                    null
-            );
+                            % gearStrip.frameCount();
+
+            gearStrip.draw(g, idx, px, py);
         }
 
         public void startNewGame() {
@@ -628,325 +975,196 @@ public class GameCore {
             frameCount =
                     0;
 
+            simAccumulator =
+                    0.0;
+
+            framePacer.reset();
+
+            frameStats.reset();
+
+            // 메뉴 화면에 있는 동안 쌓인 키는 버림
+            inputEvents.skipAll();
+
             while (running) {
 
                 long now =
                         System.nanoTime();
 
-                attachSleep(previousTime, now);
-
                 long elapsed =
                         now - previousTime;
 
-                if (elapsed < FRAME_TIME_NANO) {
-                    continue;
-                }
-
                 previousTime =
                         now;
 
                 double dt =
                         elapsed / 1_000_000_000.0;
 
-                if (state != GameState.PAUSE) {
-                    update(dt);
-                }
-
-                render();
-
-                repaint();
-
-                frameCount++;
-
-                updateFpsCounter(now);
-            }
-        }
-
-        private void updateFpsCounter(long now) {
+                drainInput();
 
-            long fpsElapsed =
-                    now - fpsCounterStartTime;
-
-            if (fpsElapsed >= 1_000_000_000L) {
-
-                currentFps =
-                        frameCount
-                                * (1_000_000_000.0 / fpsElapsed);
-
-                frameCount =
-                        0;
-
-                fpsCounterStartTime =
-                        now;
-            }
-        }
-
-        private void attachSleep(long previousTime, long now) {
-
-            long elapsed =
-                    now - previousTime;
-
-            if (elapsed < FRAME_TIME_NANO) {
-
-                long sleepMillis =
-                        (long) ((FRAME_TIME_NANO - elapsed) / 1_000_000L);
+                if (state != GameState.PAUSE) {
 
-                if (sleepMillis > 0) {
-                    try {
-                        Thread.sleep(sleepMillis);
-                    } catch (InterruptedException e) {
-                        Thread.currentThread().interrupt();
+                    if (FIXED_STEP) {
+                        stepFixed(dt);
+                    } else {
+                        update(dt);
                     }
                 }
-            }
-        }
-
-        private void update(double dt) {
-
-            if (state == GameState.INTRO) {
-                updateIntro(dt);
-                return;
-            }
-
-            if (state == GameState.TUTORIAL || state == GameState.STAGE_PLAY) {
-                updateStagePlay(dt);
-                return;
-            }
-
-            if (state == GameState.QUESTION) {
-                return;
-            }
-
-            if (state == GameState.ENDING) {
-                updateEndingTyping(dt);
-                return;
-            }
-        }
-
-        private void updateIntro(double dt) {
-            if (introManager != null) {
-                introManager.update(dt);
-            }
-        }
 
-        private void updateStagePlay(double dt) {
+                long updateEnd =
+                        System.nanoTime();
 
-            if (currentMap == null) {
-                return;
-            }
+                renderFrame();
 
-            if (player == null) {
-                return;
-            }
-
-            tickAnimations(dt);
+                long presentEnd =
+                        System.nanoTime();
 
-            tickGears(dt);
+                frameCount++;
 
-            updateTutorialHints(dt);
+                updateFpsCounter(now);
 
-            if (!consoleOpen) {
-                handlePlayerInput(dt);
-            }
+                framePacer.waitForNextFrame();
 
-            if (isPlayerFallenOut()) {
-                handlePlayerDeath();
-                return;
+                frameStats.record(
+                        System.nanoTime() - now,
+                        updateEnd - now,
+                        lastRenderNanos,
+                        Math.max(0L, presentEnd - updateEnd - lastRenderNanos)
+                );
             }
-
-            handleTileInteractions();
         }
 
-        private void tickAnimations(double dt) {
+        private void stepFixed(double frameDt) {
 
-            coinAnimTime += dt;
+            simAccumulator +=
+                    Math.min(frameDt, MAX_FRAME_DT);
 
-            lavaAnimTime += dt;
-
-            gearAnimTime += dt;
-        }
+            int steps =
+                    0;
 
-        private void tickGears(double dt) {
+            while (simAccumulator >= SIM_STEP && steps < MAX_STEPS_PER_FRAME) {
 
-            if (gears == null) {
-                return;
-            }
+                if (steps > 0) {
 
-            for (Gear gear : gears) {
+                    drainInput();
 
-                if (gear == null) {
-                    continue;
+                    if (state == GameState.PAUSE) {
+                        break;
+                    }
                 }
 
-                gear.update(dt);
-            }
-        }
+                snapshotEntityState();
 
-        private boolean isPlayerFallenOut() {
+                update(SIM_STEP);
 
-            double py =
-                    player.getY();
-
-            return py > HEIGHT + TILE_SIZE * 2;
-        }
+                simAccumulator -= SIM_STEP;
 
-        private void handlePlayerInput(double dt) {
-
-            double moveSpeed =
-                    220.0 * speedMul;
-
-            double gravity =
-                    900.0 * gravityMul;
-
-            double vx =
-                    computeMoveVx(moveSpeed);
-
-            if (!player.isDashing()) {
-                player.applyHorizontalVelocity(vx);
+                steps++;
             }
 
-            player.applyGravity(gravity, dt);
-
-            player.moveAndCollide(currentMap, dt, TILE_SIZE);
-        }
-
-        private double computeMoveVx(double moveSpeed) {
-
-            double vx = 0.0;
-
-            boolean left  = leftPressed;
-            boolean right = rightPressed;
-
-            if (left && !right) {
-                vx = -moveSpeed;
-            } else if (right && !left) {
-                vx = moveSpeed;
+            if (steps >= MAX_STEPS_PER_FRAME) {
+                simAccumulator = 0.0;
             }
 
-            return vx;
+            renderAlpha =
+                    simAccumulator / SIM_STEP;
         }
 
-        private void handleTileInteractions() {
+        private void snapshotEntityState() {
 
-            Rectangle pr =
-                    player.getRect();
-
-            int leftTile =
-                    clampInt(
-                            (int) (pr.x / TILE_SIZE),
-                            0,
-                            currentMap.width - 1
-                    );
-
-            int rightTile =
-                    clampInt(
-                            (int) ((pr.x + pr.width) / TILE_SIZE),
-                            0,
-                            currentMap.width - 1
-                    );
-
-            int topTile =
-                    clampInt(
-                            (int) (pr.y / TILE_SIZE),
-                            0,
-                            currentMap.height - 1
-                    );
-
-            int bottomTile =
-                    clampInt(
-                            (int) ((pr.y + pr.height) / TILE_SIZE),
-                            0,
-                            currentMap.height - 1
-                    );
-
-            for (int ty = topTile; ty <= bottomTile; ty++) {
+            sim.snapshot();
 
-                for (int tx = leftTile; tx <= rightTile; tx++) {
-
-                    MapLoader.TileType type =
-                            currentMap.tiles[ty][tx];
-
-                    boolean stop =
-                            applyTileEffect(tx, ty, type);
+            camera.savePreviousState();
+        }
 
-                    if (stop) {
-                        return;
-                    }
-                }
-            }
+        private double currentRenderAlpha() {
 
-            if (!invincible) {
-                if (checkGearCollision(pr)) {
-                    handlePlayerDeath();
-                }
-            }
+            return FIXED_STEP
+                    ? renderAlpha
+                    : 1.0;
         }
 
-        private boolean checkGearCollision(Rectangle pr) {
+        private void updateFpsCounter(long now) {
+
+            long fpsElapsed =
+                    now - fpsCounterStartTime;
 
-            if (gears == null) {
-                return false;
-            }
+            if (fpsElapsed >= 1_000_000_000L) {
 
-            for (Gear gear : gears) {
+                currentFps =
+                        frameCount
+                                * (1_000_000_000.0 / fpsElapsed);
 
-                if (gear == null) {
-                    continue;
-                }
+                frameCount =
+                        0;
 
-                if (gear.collidesWith(pr)) {
-                    return true;
-                }
+                fpsCounterStartTime =
+                        now;
             }
-
-            return false;
         }
 
-        private boolean applyTileEffect(int tx, int ty, MapLoader.TileType type) {
+        private void update(double dt) {
 
-            if (type == null) {
-                return false;
+            if (state == GameState.INTRO) {
+                updateIntro(dt);
+                return;
             }
 
-            if (type == MapLoader.TileType.SPIKE || type == MapLoader.TileType.LAVA) {
+            if (state == GameState.TUTORIAL || state == GameState.STAGE_PLAY) {
+                updateStagePlay(dt);
+                return;
+            }
 
-                if (!invincible) {
-                    handlePlayerDeath();
-                }
+            if (state == GameState.QUESTION) {
+                return;
+            }
 
-                return true;
+            if (state == GameState.ENDING) {
+                updateEndingTyping(dt);
+                return;
             }
+        }
 
-            if (type == MapLoader.TileType.STAR) {
+        private void updateIntro(double dt) {
+            if (introManager != null) {
+                introManager.update(dt);
+            }
+        }
 
-                collectStarAt(tx, ty);
+        private void updateStagePlay(double dt) {
 
-                return false;
+            if (sim.getMap() == null) {
+                return;
             }
 
-            if (type == MapLoader.TileType.GEM_YELLOW) {
+            tickAnimations(dt);
 
-                pickupYellowGemAt(tx, ty);
+            updateTutorialHints(dt);
 
-                return false;
-            }
+            sim.step(
+                    dt,
+                    consoleOpen ? null : inputRecorder
+            );
 
-            if (type == MapLoader.TileType.GEM_BLUE) {
+            camera.follow(sim.getPlayer());
+        }
 
-                pickupBlueGemAt(tx, ty);
+        private void tickAnimations(double dt) {
 
-                return false;
-            }
+            coinAnimTime += dt;
 
-            return false;
+            lavaAnimTime += dt;
+
+            gearAnimTime += dt;
         }
 
-        private void collectStarAt(int tx, int ty) {
+        // ===============================
+        // Simulation Events
+        // ===============================
 
-            currentMap.tiles[ty][tx] =
-                    MapLoader.TileType.EMPTY;
+        @Override
+        public void onStarCollected(int tx, int ty) {
 
-            collectedStars++;
+            tileLayer.clearTile(tx, ty);
 
             StageInfo info =
                     stageInfos[currentStageIndex];
@@ -962,7 +1180,9 @@ public class GameCore {
                         );
             }
 
-            if (collectedStars >= totalStarsInStage && !waitingForQuestionAnswer) {
+            if (sim.isAllStarsCollected() && !waitingForQuestionAnswer) {
+
+                finishRecording(InputRecording.Outcome.CLEAR);
 
                 if (currentStageIndex == 0) {
 
@@ -986,27 +1206,18 @@ public class GameCore {
             }
         }
 
-        private void pickupYellowGemAt(int tx, int ty) {
-
-            currentMap.tiles[ty][tx] =
-                    MapLoader.TileType.EMPTY;
+        @Override
+        public void onGemPicked(int tx, int ty, MapLoader.TileType gem) {
 
-            player.setFormYellow();
+            tileLayer.clearTile(tx, ty);
 
             onGemPickedTutorialHint();
         }
 
-        private void pickupBlueGemAt(int tx, int ty) {
-
-            currentMap.tiles[ty][tx] =
-                    MapLoader.TileType.EMPTY;
-
-            player.setFormBlue();
-
-            onGemPickedTutorialHint();
-        }
+        @Override
+        public void onPlayerDeath() {
 
-        private void handlePlayerDeath() {
+            finishRecording(InputRecording.Outcome.DEATH);
 
             if (currentStageIndex == 0 && !tutShownDeath) {
 
@@ -1021,28 +1232,13 @@ public class GameCore {
             if (info != null) {
                 info.incrementDeathCount();
             }
-
-            resetCurrentStage();
         }
 
-        private void resetCurrentStage() {
-
-            MapLoader.MapData map =
-                    MapLoader.loadStage(currentStageIndex);
-
-            if (map == null) {
-                return;
-            }
-
-            setMapAndResetCounters(map);
+        /** 사망이나 R 키로 같은 스테이지를 다시 시작한 직후 */
+        @Override
+        public void onRespawn() {
 
-            player =
-                    new Player(
-                            map.playerStartX,
-                            map.playerStartY,
-                            TILE_SIZE * 0.7,
-                            TILE_SIZE * 0.9
-                    );
+            resetQuizState();
 
             ensureStageInfoForCurrentStage();
 
@@ -1053,28 +1249,101 @@ public class GameCore {
                 info.startStage();
             }
 
-            rebuildGearsFromMap();
-
             if (currentStageIndex == 0) {
                 resetTutorialHintState();
             }
 
+            snapCamera();
+
+            beginRecording();
+
             state =
                     (currentStageIndex == 0)
                             ? GameState.TUTORIAL
                             : GameState.STAGE_PLAY;
         }
 
-        private void setMapAndResetCounters(MapLoader.MapData map) {
+        private void snapCamera() {
 
-            currentMap =
-                    map;
+            MapLoader.MapData map =
+                    sim.getMap();
 
-            totalStarsInStage =
-                    map.totalStars;
+            camera.setWorldSize(
+                    map.width * TILE_SIZE,
+                    map.height * TILE_SIZE
+            );
 
-            collectedStars =
-                    0;
+            camera.snapTo(sim.getPlayer());
+        }
+
+        private void beginRecording() {
+
+            if (!RECORD_INPUT) {
+                return;
+            }
+
+            inputRecorder.begin(
+                    currentStageIndex,
+                    SIM_STEP,
+                    sim.getSpeedMul(),
+                    sim.getGravityMul(),
+                    sim.isInvincible()
+            );
+
+            if (consoleOpen) {
+                inputRecorder.markTainted();
+            }
+        }
+
+        /** 사망/클리어 시점의 입력 기록을 백그라운드에서 파일로 저장 */
+        private void finishRecording(InputRecording.Outcome outcome) {
+
+            if (!RECORD_INPUT) {
+                return;
+            }
+
+            Player player =
+                    sim.getPlayer();
+
+            InputRecording rec =
+                    inputRecorder.finish(
+                            outcome,
+                            sim.getTick(),
+                            player.getX(),
+                            player.getY()
+                    );
+
+            if (rec != null) {
+                InputRecorder.saveAsync(rec, REPLAY_DIR);
+            }
+        }
+
+        /**
+         * 같은 스테이지 재도전
+         * 맵은 다시 파싱하지 않고 이번 도전에서 먹은 별/보석 기록만 지운다.
+         */
+        private void resetCurrentStage() {
+
+            if (sim.getMap() != null) {
+
+                sim.respawn();
+
+                return;
+            }
+
+            MapLoader.MapData map =
+                    MapLoader.loadStage(currentStageIndex);
+
+            if (map == null) {
+                return;
+            }
+
+            sim.load(currentStageIndex, map);
+
+            onRespawn();
+        }
+
+        private void resetQuizState() {
 
             waitingForQuestionAnswer =
                     false;
@@ -1094,7 +1363,7 @@ public class GameCore {
                         new StageInfo(
                                 currentStageIndex,
                                 getStageName(currentStageIndex),
-                                totalStarsInStage
+                                sim.getTotalStars()
                         );
             }
         }
@@ -1127,7 +1396,8 @@ public class GameCore {
             return "Stage " + stageIndex;
         }
 
-        private void loadStage(int stageIndex) {
+        // bench/HotPathWorkloads 에서도 호출 (package-private)
+        void loadStage(int stageIndex) {
 
             if (stageIndex < 0) {
                 return;
@@ -1147,23 +1417,13 @@ public class GameCore {
                 return;
             }
 
-            currentMap =
-                    map;
-
-            totalStarsInStage =
-                    map.totalStars;
-
-            collectedStars =
-                    0;
+            sim.load(stageIndex, map);
 
-            waitingForQuestionAnswer =
-                    false;
+            requestAnimations();
 
-            lastAnswerCorrect =
-                    false;
+            snapCamera();
 
-            currentQuiz =
-                    null;
+            resetQuizState();
 
             if (stageInfos[stageIndex] == null) {
 
@@ -1171,28 +1431,20 @@ public class GameCore {
                         new StageInfo(
                                 stageIndex,
                                 getStageName(stageIndex),
-                                totalStarsInStage
+                                sim.getTotalStars()
                         );
 
             } else {
 
                 stageInfos[stageIndex]
                         .resetForRetry(
-                                totalStarsInStage
+                                sim.getTotalStars()
                         );
             }
 
             stageInfos[stageIndex]
                     .startStage();
 
-            player =
-                    new Player(
-                            map.playerStartX,
-                            map.playerStartY,
-                            TILE_SIZE * 0.7,
-                            TILE_SIZE * 0.9
-                    );
-
             if (stageIndex == 0) {
 
                 stageSuccessStatus[0] =
@@ -1201,7 +1453,7 @@ public class GameCore {
                 resetTutorialHintState();
             }
 
-            rebuildGearsFromMap();
+            beginRecording();
 
             state =
                     (stageIndex == 0)
@@ -1209,55 +1461,6 @@ public class GameCore {
                             : GameState.STAGE_PLAY;
         }
 
-        private void rebuildGearsFromMap() {
-
-            gears.clear();
-
-            if (currentMap == null) {
-                return;
-            }
-
-            double ampPx =
-                    TILE_SIZE * GEAR_MOVE_TILES;
-
-            double speed =
-                    GEAR_MOVE_SPEED;
-
-            if (currentMap.gearDownSpawns != null) {
-
-                for (MapLoader.Point p : currentMap.gearDownSpawns) {
-
-                    if (p == null) continue;
-
-                    gears.add(
-                            Gear.horizontal(
-                                    p.x * TILE_SIZE,
-                                    p.y * TILE_SIZE,
-                                    ampPx,
-                                    speed
-                            )
-                    );
-                }
-            }
-
-            if (currentMap.gearUpSpawns != null) {
-
-                for (MapLoader.Point p : currentMap.gearUpSpawns) {
-
-                    if (p == null) continue;
-
-                    gears.add(
-                            Gear.vertical(
-                                    p.x * TILE_SIZE,
-                                    p.y * TILE_SIZE,
-                                    ampPx,
-                                    speed
-                            )
-                    );
-                }
-            }
-        }
-
         private void enterQuestionState() {
 
             waitingForQuestionAnswer =
@@ -1319,18 +1522,10 @@ public class GameCore {
             finalResultGood =
                     (successCount == stageSuccessStatus.length);
 
-            if (finalResultGood) {
-
-                finalEndingPhase2Text =
-                        "당신은 동료들과 함께 우주선을 타고 이 행성을 떠납니다.\n"
-                                + "동료들의 웃음소리에 당신의 입가에도 미소가 번집니다.";
-
-            } else {
+            finalEndingPhase2Script =
+                    StageStory.getFinalEpilogue(finalResultGood);
 
-                finalEndingPhase2Text =
-                        "당신은 거대한 컴퓨터 구조가 된 이 행성 위에 홀로 남아\n"
-                                + "언젠가 또 올 탈출 시도를 위해 시스템을 지켜보기로 합니다.";
-            }
+            phase2Typing.start(finalEndingPhase2Script);
         }
 
         private void goToNextStageOrFinishGame() {
@@ -1352,37 +1547,51 @@ public class GameCore {
                 return;
             }
 
+            Thread loop =
+                    gameThread;
+
             stopGameThread();
 
-            CardLayout cl =
-                    (CardLayout) mainContainer.getLayout();
+            // 게임 스레드에서 불리므로 화면 전환은 EDT 에서, 루프가 끝난 뒤에 상태를 되돌림
+            SwingUtilities.invokeLater(
+                    () -> {
 
-            cl.show(
-                    mainContainer,
-                    GameCore.CARD_MENU
-            );
+                        joinQuietly(loop);
 
-            if (GameCore.getSoundManager() != null) {
-                GameCore.getSoundManager()
-                        .playBGM(
-                                SoundManager.BGM_MAIN_MENU
+                        CardLayout cl =
+                                (CardLayout) mainContainer.getLayout();
+
+                        cl.show(
+                                mainContainer,
+                                GameCore.CARD_MENU
                         );
-            }
 
-            resetStateToTutorial();
+                        if (GameCore.getSoundManager() != null) {
+                            GameCore.getSoundManager()
+                                    .playBGM(
+                                            SoundManager.BGM_MAIN_MENU
+                                    );
+                        }
+
+                        resetStateToTutorial();
+                    }
+            );
         }
 
-        private void render() {
+        // bench/HotPathWorkloads 에서 오프스크린 버퍼로 호출 (package-private)
+        void render(Graphics2D g) {
 
-            if (backG == null) {
+            if (g == null) {
                 return;
             }
 
-            backG.setColor(
+            pollLoadedAssets();
+
+            g.setColor(
                     Color.WHITE
             );
 
-            backG.fillRect(
+            g.fillRect(
                     0,
                     0,
                     WIDTH,
@@ -1391,23 +1600,27 @@ public class GameCore {
 
             if (state == GameState.INTRO) {
 
-                renderStoryOverlay(backG);
+                renderStoryOverlay(g);
 
                 return;
             }
 
             if (state == GameState.TUTORIAL || state == GameState.STAGE_PLAY) {
 
-                renderStagePlay(backG);
+                renderStagePlay(g);
 
-                renderHUD(backG);
+                renderHUD(g);
 
-                renderTutorialHintOverlay(backG);
+                renderTutorialHintOverlay(g);
 
-                renderConsoleOverlay(backG);
+                renderConsoleOverlay(g);
 
                 if (debugShowInfo) {
-                    renderDebugInfo(backG);
+                    renderDebugInfo(g);
+                }
+
+                if (perfOverlayOn) {
+                    renderPerfOverlay(g);
                 }
 
                 return;
@@ -1415,16 +1628,20 @@ public class GameCore {
 
             if (state == GameState.QUESTION) {
 
-                renderStagePlay(backG);
+                renderStagePlay(g);
 
-                renderHUD(backG);
+                renderHUD(g);
 
-                renderQuestionOverlay(backG);
+                renderQuestionOverlay(g);
 
-                renderConsoleOverlay(backG);
+                renderConsoleOverlay(g);
 
                 if (debugShowInfo) {
-                    renderDebugInfo(backG);
+                    renderDebugInfo(g);
+                }
+
+                if (perfOverlayOn) {
+                    renderPerfOverlay(g);
                 }
 
                 return;
@@ -1433,15 +1650,19 @@ public class GameCore {
             if (state == GameState.ENDING) {
 
                 if (currentStageIndex == 3) {
-                    renderFinalEnding(backG);
+                    renderFinalEnding(g);
                 } else {
-                    renderEndingOverlay(backG);
+                    renderEndingOverlay(g);
                 }
 
-                renderConsoleOverlay(backG);
+                renderConsoleOverlay(g);
 
                 if (debugShowInfo) {
-                    renderDebugInfo(backG);
+                    renderDebugInfo(g);
+                }
+
+                if (perfOverlayOn) {
+                    renderPerfOverlay(g);
                 }
 
                 return;
@@ -1449,20 +1670,24 @@ public class GameCore {
 
             if (state == GameState.PAUSE) {
 
-                renderStagePlay(backG);
+                renderStagePlay(g);
 
-                renderHUD(backG);
+                renderHUD(g);
 
-                renderConsoleOverlay(backG);
+                renderConsoleOverlay(g);
 
                 if (debugShowInfo) {
-                    renderDebugInfo(backG);
+                    renderDebugInfo(g);
+                }
+
+                if (perfOverlayOn) {
+                    renderPerfOverlay(g);
                 }
 
                 return;
             }
 
-            renderSimpleMenu(backG);
+            renderSimpleMenu(g);
         }
 
         private BufferedImage getStageBackground() {
@@ -1477,52 +1702,101 @@ public class GameCore {
 
         private void renderStagePlay(Graphics2D g) {
 
-            if (currentMap == null) return;
-            if (player == null) return;
+            if (sim.getMap() == null) return;
 
             BufferedImage bg =
                     getStageBackground();
 
-            if (bg != null) {
+            backdrops.draw(
+                    g,
+                    bg,
+                    0,
+                    MAP_OFFSET_Y,
+                    WIDTH,
+                    HEIGHT - MAP_OFFSET_Y
+            );
+
+            double alpha =
+                    currentRenderAlpha();
 
-                g.drawImage(
-                        bg,
-                        0,
-                        MAP_OFFSET_Y,
-                        WIDTH,
-                        HEIGHT - MAP_OFFSET_Y,
-                        null
-                );
+            int camX =
+                    camera.getRenderX(alpha);
+
+            int camY =
+                    camera.getRenderY(alpha);
+
+            // 월드는 카메라만큼 옮겨 그리고, 스크롤돼도 HUD 줄을 덮지 않게 맵 영역으로 자름
+            g.clipRect(0, MAP_OFFSET_Y, WIDTH, HEIGHT - MAP_OFFSET_Y);
+            g.translate(-camX, -camY);
+
+            try {
+
+                drawTiles(g);
+
+                drawGears(g);
+
+                drawPlayerSprite(g);
+
+            } finally {
+
+                g.translate(camX, camY);
+                g.setClip(null);
             }
+        }
+
+        // bench/HotPathWorkloads 에서도 호출 (package-private)
+        void drawTiles(Graphics2D g) {
+
+            double alpha =
+                    currentRenderAlpha();
 
-            drawTiles(g);
+            tileLayer.setViewport(
+                    camera.getRenderX(alpha),
+                    camera.getRenderY(alpha),
+                    camera.getViewWidth(),
+                    camera.getViewHeight()
+            );
+
+            tileLayer.sync(sim.getMap(), tilePainter);
 
-            drawGears(g);
+            tileLayer.drawStatic(g, MAP_OFFSET_Y);
 
-            drawPlayerSprite(g);
+            tileLayer.drawOverlay(g, MAP_OFFSET_Y, tilePainter);
+
+            if (debugDrawHitbox) {
+                drawTileHitboxes(g);
+            }
         }
 
-        private void drawTiles(Graphics2D g) {
+        private void drawTileHitboxes(Graphics2D g) {
+
+            TileGrid grid =
+                    sim.getMap().getGrid();
 
-            for (int y = 0; y < currentMap.height; y++) {
+            g.setColor(TILE_HITBOX);
 
-                for (int x = 0; x < currentMap.width; x++) {
+            double alpha =
+                    currentRenderAlpha();
 
-                    MapLoader.TileType type =
-                            currentMap.tiles[y][x];
+            // 화면에 보이는 칸만
+            int x0 = Math.max(0, camera.getRenderX(alpha) / TILE_SIZE);
+            int y0 = Math.max(0, camera.getRenderY(alpha) / TILE_SIZE);
 
-                    int px =
-                            x * TILE_SIZE;
+            int x1 = Math.min(grid.width,  x0 + camera.getViewWidth()  / TILE_SIZE + 2);
+            int y1 = Math.min(grid.height, y0 + camera.getViewHeight() / TILE_SIZE + 2);
 
-                    int py =
-                            y * TILE_SIZE + MAP_OFFSET_Y;
+            for (int y = y0; y < y1; y++) {
 
-                    drawOneTile(g, type, px, py);
+                int rowBase =
+                        y * grid.width;
 
-                    if (debugDrawHitbox && type != MapLoader.TileType.EMPTY) {
-                        g.setColor(new Color(0, 0, 0, 60));
-                        g.drawRect(px, py, TILE_SIZE, TILE_SIZE);
+                for (int x = x0; x < x1; x++) {
+
+                    if (grid.isEmptyAt(rowBase + x)) {
+                        continue;
                     }
+
+                    g.drawRect(x * TILE_SIZE, y * TILE_SIZE + MAP_OFFSET_Y, TILE_SIZE, TILE_SIZE);
                 }
             }
         }
@@ -1531,8 +1805,8 @@ public class GameCore {
 
             if (type == MapLoader.TileType.WALL) {
 
-                if (tileLavaImg != null) {
-                    g.drawImage(tileLavaImg, px, py, TILE_SIZE, TILE_SIZE, null);
+                if (tileLavaSprite != SpriteAtlas.NONE) {
+                    sprites.draw(g, tileLavaSprite, px, py);
                 } else {
                     g.setColor(Color.LIGHT_GRAY);
                     g.fillRect(px, py, TILE_SIZE, TILE_SIZE);
@@ -1560,21 +1834,17 @@ public class GameCore {
             }
 
             if (type == MapLoader.TileType.GEM_YELLOW) {
-                if (gemYellowImg != null) {
-                    g.drawImage(gemYellowImg, px, py, TILE_SIZE, TILE_SIZE, null);
-                }
+                sprites.draw(g, gemYellowSprite, px, py);
                 return;
             }
 
             if (type == MapLoader.TileType.GEM_BLUE) {
-                if (gemBlueImg != null) {
-                    g.drawImage(gemBlueImg, px, py, TILE_SIZE, TILE_SIZE, null);
-                }
+                sprites.draw(g, gemBlueSprite, px, py);
                 return;
             }
 
             if (type == MapLoader.TileType.DOOR) {
-                g.setColor(new Color(120, 80, 40));
+                g.setColor(DOOR_FALLBACK);
                 g.fillRect(px + TILE_SIZE / 8, py, TILE_SIZE * 3 / 4, TILE_SIZE);
                 g.setColor(Color.BLACK);
                 g.drawRect(px + TILE_SIZE / 8, py, TILE_SIZE * 3 / 4, TILE_SIZE);
@@ -1584,17 +1854,40 @@ public class GameCore {
 
         private void drawGears(Graphics2D g) {
 
-            for (Gear gear : gears) {
+            double alpha =
+                    currentRenderAlpha();
 
-                if (gear == null) {
-                    continue;
-                }
+            int camX =
+                    camera.getRenderX(alpha);
+
+            int camY =
+                    camera.getRenderY(alpha);
+
+            // 화면 안 톱니만 색인에서 꺼냄 (보간 위치 차이는 한 칸 여유로 덮음)
+            sim.queryGears(
+                    camX - TILE_SIZE,
+                    camY - TILE_SIZE,
+                    camX + camera.getViewWidth() + TILE_SIZE,
+                    camY + camera.getViewHeight() + TILE_SIZE,
+                    visibleGears
+            );
+
+            // 겹친 톱니가 예전과 같은 순서로 그려지도록 목록 순서로
+            visibleGears.sort();
+
+            List<Gear> gears =
+                    sim.getGears();
+
+            for (int i = 0; i < visibleGears.size(); i++) {
+
+                Gear gear =
+                        gears.get(visibleGears.get(i));
 
                 int gx =
-                        (int) gear.x;
+                        (int) gear.getRenderX(alpha);
 
                 int gy =
-                        (int) gear.y + MAP_OFFSET_Y;
+                        (int) gear.getRenderY(alpha) + MAP_OFFSET_Y;
 
                 drawAnimatedGear(g, gx, gy);
 
@@ -1605,7 +1898,7 @@ public class GameCore {
                     int cx = (int) (gx + TILE_SIZE / 2.0);
                     int cy = (int) (gy + TILE_SIZE / 2.0);
 
-                    g.setColor(new Color(255, 0, 0, 160));
+                    g.setColor(GEAR_HITBOX);
 
                     g.drawOval(
                             (int) (cx - r),
@@ -1619,8 +1912,13 @@ public class GameCore {
 
         private void drawPlayerSprite(Graphics2D g) {
 
+            Player player =
+                    sim.getPlayer();
+
             Rectangle pr =
-                    player.getRect();
+                    player.getRenderRect(
+                            currentRenderAlpha()
+                    );
 
             int plx =
                     pr.x;
@@ -1637,19 +1935,12 @@ public class GameCore {
             boolean goingUp =
                     player.getVelY() < 0.0;
 
-            BufferedImage sprite =
+            int sprite =
                     choosePlayerSprite(goingUp);
 
-            if (sprite != null) {
+            if (sprite != SpriteAtlas.NONE) {
 
-                g.drawImage(
-                        sprite,
-                        plx,
-                        ply,
-                        plw,
-                        plh,
-                        null
-                );
+                sprites.draw(g, sprite, plx, ply);
 
             } else {
 
@@ -1666,29 +1957,29 @@ public class GameCore {
             }
         }
 
-        private BufferedImage choosePlayerSprite(boolean goingUp) {
+        private int choosePlayerSprite(boolean goingUp) {
 
             Player.Form form =
-                    player.getForm();
+                    sim.getPlayer().getForm();
 
             if (form == Player.Form.BASIC) {
-                return goingUp ? basicJumpImg : basicStandImg;
+                return goingUp ? basicJumpSprite : basicStandSprite;
             }
 
             if (form == Player.Form.YELLOW) {
-                return goingUp ? yellowJumpImg : yellowStandImg;
+                return goingUp ? yellowJumpSprite : yellowStandSprite;
             }
 
             if (form == Player.Form.BLUE) {
-                return goingUp ? blueJumpImg : blueStandImg;
+                return goingUp ? blueJumpSprite : blueStandSprite;
             }
 
-            return null;
+            return SpriteAtlas.NONE;
         }
 
         private void drawAnimatedCoin(Graphics2D g, int px, int py) {
 
-            if (coinImg == null) {
+            if (coinSprite == SpriteAtlas.NONE) {
 
                 g.setColor(Color.YELLOW);
 
@@ -1705,61 +1996,57 @@ public class GameCore {
             double offset =
                     Math.sin(coinAnimTime * 4.0) * 3.0;
 
-            g.drawImage(
-                    coinImg,
-                    px,
-                    (int) (py + offset),
-                    TILE_SIZE,
-                    TILE_SIZE,
-                    null
-            );
+            sprites.draw(g, coinSprite, px, (int) (py + offset));
         }
 
         private void renderHUD(Graphics2D g) {
 
             g.setColor(Color.BLACK);
 
-            g.setFont(
-                    g.getFont()
-                            .deriveFont(Font.BOLD, 16f)
-            );
-
-            String stageName =
-                    (stageInfos[currentStageIndex] != null)
-                            ? stageInfos[currentStageIndex].getStageName()
-                            : "Stage " + currentStageIndex;
-
-            String starInfo =
-                    "Stars: " + collectedStars + " / " + totalStarsInStage;
+            StageInfo info =
+                    stageInfos[currentStageIndex];
 
-            String deathInfo =
-                    "Deaths: " + (stageInfos[currentStageIndex] != null
-                            ? stageInfos[currentStageIndex].getDeathCount()
-                            : 0);
+            if (info != null) {
 
-            g.drawString(stageName, 10, 20);
+                hudText16.draw(g, info.getStageName(), 10, 20);
 
-            g.drawString(starInfo, 10, 40);
+            } else {
 
-            g.drawString(deathInfo, 10, 60);
+                hudText16.draw(g, line().append("Stage ").append(currentStageIndex), 10, 20);
+            }
 
-            g.setFont(
-                    g.getFont()
-                            .deriveFont(Font.BOLD, 14f)
+            hudText16.draw(
+                    g,
+                    line()
+                            .append("Stars: ")
+                            .append(sim.getCollectedStars())
+                            .append(" / ")
+                            .append(sim.getTotalStars()),
+                    10,
+                    40
             );
 
-            String mul =
-                    String.format(
-                            "xSpeed %.2f  xGravity %.2f  %s",
-                            speedMul,
-                            gravityMul,
-                            invincible ? "INVINCIBLE" : ""
-                    );
-
-            g.drawString(mul, 10, 82);
+            hudText16.draw(
+                    g,
+                    line()
+                            .append("Deaths: ")
+                            .append(info != null ? info.getDeathCount() : 0),
+                    10,
+                    60
+            );
 
-            StageInfo info =
-                    stageInfos[currentStageIndex];
+            hudText14.draw(
+                    g,
+                    line()
+                            .append("xSpeed ")
+                            .appendFixed(sim.getSpeedMul(), 2)
+                            .append("  xGravity ")
+                            .appendFixed(sim.getGravityMul(), 2)
+                            .append("  ")
+                            .append(sim.isInvincible() ? "INVINCIBLE" : ""),
+                    10,
+                    82
+            );
 
             if (info != null) {
 
@@ -1770,26 +2057,23 @@ public class GameCore {
                     ms = 0;
                 }
 
-                g.setFont(
-                        g.getFont()
-                                .deriveFont(Font.BOLD, 24f)
-                );
-
-                String timeString =
-                        String.format("%.2f초", ms / 1000.0);
+                TextBuffer timeString =
+                        line()
+                                .appendFixed(ms / 1000.0, 2)
+                                .append('초');
 
                 int xPos =
                         WIDTH
-                                - g.getFontMetrics().stringWidth(timeString)
+                                - hudText24.width(g, timeString)
                                 - 20;
 
-                g.drawString(timeString, xPos, 40);
+                hudText24.draw(g, timeString, xPos, 40);
             }
         }
 
         private void renderQuestionOverlay(Graphics2D g) {
 
-            g.setColor(new Color(0, 0, 0, 180));
+            g.setColor(DIM_180);
 
             g.fillRect(60, 60, WIDTH - 120, HEIGHT - 120);
 
@@ -1798,36 +2082,42 @@ public class GameCore {
 
             g.setColor(Color.WHITE);
 
-            g.setFont(new Font("SansSerif", Font.BOLD, 22));
-
-            String title =
-                    getStageName(currentStageIndex);
-
-            g.drawString("퀴즈 - " + title, x, y);
+            sansBold22.draw(
+                    g,
+                    line()
+                            .append("퀴즈 - ")
+                            .append(getStageName(currentStageIndex)),
+                    x,
+                    y
+            );
 
             y += 45;
 
-            g.setFont(new Font("SansSerif", Font.PLAIN, 16));
-
             if (currentQuiz == null) {
-                g.drawString("문제 로딩 중...", x, y);
+                sansPlain16.draw(g, "문제 로딩 중...", x, y);
                 return;
             }
 
-            g.drawString(currentQuiz.getQuestion(), x, y);
+            sansPlain16.draw(g, currentQuiz.getQuestion(), x, y);
 
             y += 36;
 
-            g.setFont(new Font("SansSerif", Font.PLAIN, 16));
-
-            g.setColor(new Color(255, 255, 120));
+            g.setColor(QUIZ_CHOICE);
 
             String[] choices =
                     currentQuiz.getChoices();
 
             for (int i = 0; i < 4; i++) {
 
-                g.drawString((i + 1) + ") " + choices[i], x, y);
+                sansPlain16.draw(
+                        g,
+                        line()
+                                .append(i + 1)
+                                .append(") ")
+                                .append(choices[i]),
+                        x,
+                        y
+                );
 
                 y += 26;
             }
@@ -1836,17 +2126,13 @@ public class GameCore {
 
             g.setColor(Color.WHITE);
 
-            g.setFont(new Font("SansSerif", Font.BOLD, 14));
-
-            g.drawString("1~4 중 하나를 눌러 선택하세요.", x, y);
+            sansBold14.draw(g, "1~4 중 하나를 눌러 선택하세요.", x, y);
         }
 
         private void renderStoryOverlay(Graphics2D g) {
 
-            if (introBGImg != null) {
-                g.drawImage(introBGImg, 0, 0, WIDTH, HEIGHT, null);
-            } else {
-                g.setColor(new Color(20, 20, 40));
+            if (!backdrops.draw(g, introBGImg, 0, 0, WIDTH, HEIGHT)) {
+                g.setColor(STORY_BG);
                 g.fillRect(0, 0, WIDTH, HEIGHT);
             }
 
@@ -1859,7 +2145,7 @@ public class GameCore {
             final int boxY =
                     HEIGHT - BOX_HEIGHT;
 
-            g.setColor(new Color(20, 20, 40, 204));
+            g.setColor(STORY_BOX);
 
             g.fillRect(0, boxY, WIDTH, BOX_HEIGHT);
 
@@ -1874,51 +2160,46 @@ public class GameCore {
                 int speakerX = BOX_PADDING;
                 int speakerY = boxY - SPEAKER_BOX_HEIGHT - 5;
 
-                g.setColor(new Color(40, 40, 60, 220));
+                g.setColor(SPEAKER_BOX);
                 g.fillRect(speakerX, speakerY, SPEAKER_BOX_WIDTH, SPEAKER_BOX_HEIGHT);
 
-                g.setColor(new Color(200, 200, 255));
-                g.setFont(g.getFont().deriveFont(Font.BOLD, 20f));
-                g.drawString(speaker, speakerX + 15, speakerY + 28);
+                g.setColor(SPEAKER_TEXT);
+                dialogBold20.draw(g, speaker, speakerX + 15, speakerY + 28);
             }
 
             g.setColor(Color.WHITE);
 
-            g.setFont(
-                    g.getFont().deriveFont(Font.PLAIN, 20f)
-            );
-
-            String line =
-                    manager.getCurrentDialogue();
+            Typewriter typing =
+                    manager.getTyping();
 
-            int end =
-                    Math.min(
-                            manager.getCurrentCharIndex(),
-                            line.length()
-                    );
+            if (!typing.isPastEnd()) {
 
-            String displayLine =
-                    line.substring(0, end);
+                TypedScript script =
+                        typing.getScript();
 
-            g.drawString(displayLine, BOX_PADDING, boxY + BOX_PADDING + 25);
+                dialogPlain20.draw(
+                        g,
+                        script.chars(),
+                        script.lineStart(typing.getLine()),
+                        typing.getChars(),
+                        BOX_PADDING,
+                        boxY + BOX_PADDING + 25
+                );
+            }
 
             if (manager.isStoryEnd() || manager.isTypingComplete()) {
 
                 g.setColor(Color.YELLOW);
 
-                g.setFont(
-                        g.getFont().deriveFont(Font.BOLD, 22f)
-                );
-
                 String msg =
                         manager.isStoryEnd()
                                 ? "ENTER: 튜토리얼 시작"
                                 : "ENTER: 다음";
 
                 int msgWidth =
-                        g.getFontMetrics().stringWidth(msg);
+                        dialogBold22.width(g, msg);
 
-                g.drawString(msg, WIDTH - msgWidth - BOX_PADDING, boxY + BOX_HEIGHT - BOX_PADDING);
+                dialogBold22.draw(g, msg, WIDTH - msgWidth - BOX_PADDING, boxY + BOX_HEIGHT - BOX_PADDING);
             }
         }
 
@@ -1933,52 +2214,61 @@ public class GameCore {
             String title =
                     StageStory.getEndingTitle(currentStageIndex, good);
 
-            String[] allLines =
-                    StageStory.getEndingLines(currentStageIndex, good);
+            TypedScript script =
+                    StageStory.getEndingScript(currentStageIndex, good);
 
-            g.setColor(new Color(0, 0, 0, 200));
+            g.setColor(DIM_200);
 
             g.fillRect(50, 50, WIDTH - 100, HEIGHT - 100);
 
             int x = 80;
             int yCursor = 100;
 
-            g.setFont(new Font("SansSerif", Font.BOLD, 30));
-
             g.setColor(
                     good
-                            ? new Color(100, 200, 255)
-                            : new Color(255, 150, 150)
+                            ? GOOD_TITLE
+                            : BAD_TITLE
             );
 
-            g.drawString(title, x, yCursor);
+            sansBold30.draw(g, title, x, yCursor);
 
             yCursor += 50;
 
             g.setColor(Color.WHITE);
 
-            g.setFont(new Font("SansSerif", Font.PLAIN, 16));
+            drawTypedLines(g, sansPlain16, script, info.getTyping(), x, yCursor, 28);
 
-            for (int i = 0; i < allLines.length; i++) {
+            g.setColor(PROMPT_GREEN);
 
-                String line =
-                        allLines[i];
+            sansBold18.draw(g, "ENTER: 다음 시스템", x, HEIGHT - 80);
+        }
 
-                if (i < info.getCurrentLineIndex()) {
-                    g.drawString(line, x, yCursor);
-                } else if (i == info.getCurrentLineIndex()) {
-                    int end = Math.min(info.getCurrentCharIndex(), line.length());
-                    g.drawString(line.substring(0, end), x, yCursor);
-                }
+        /** 다 나온 줄은 캐시된 문자열로, 타이핑 중인 줄은 대본의 공유 char[] 앞부분만 그린다 */
+        private void drawTypedLines(Graphics2D g,
+                                    TextStyle style,
+                                    TypedScript script,
+                                    Typewriter typing,
+                                    int x,
+                                    int y,
+                                    int lineGap) {
 
-                yCursor += 28;
-            }
+            // 아직 update 전이라 다른 대본을 가리키면 처음 상태로 본다
+            int current =
+                    (typing.getScript() == script) ? typing.getLine() : 0;
 
-            g.setFont(new Font("SansSerif", Font.BOLD, 18));
+            int shown =
+                    (typing.getScript() == script) ? typing.getChars() : 0;
 
-            g.setColor(new Color(100, 255, 100));
+            for (int i = 0; i < script.lineCount(); i++) {
 
-            g.drawString("ENTER: 다음 시스템", x, HEIGHT - 80);
+                if (i < current) {
+                    style.draw(g, script.line(i), x, y);
+                } else if (i == current) {
+                    style.draw(g, script.chars(), script.lineStart(i), shown, x, y);
+                }
+
+                y += lineGap;
+            }
         }
 
         private void renderFinalEnding(Graphics2D g) {
@@ -1996,62 +2286,39 @@ public class GameCore {
             boolean overallGood =
                     this.finalResultGood;
 
-            String[] allLines =
-                    StageStory.getEndingLines(currentStageIndex, overallGood);
+            TypedScript script =
+                    StageStory.getEndingScript(currentStageIndex, overallGood);
 
             BufferedImage bg =
                     overallGood
                             ? goodEndingBG
                             : badEndingBG;
 
-            if (bg != null) {
-                g.drawImage(bg, 0, 0, WIDTH, HEIGHT, null);
-                g.setColor(new Color(0, 0, 0, 150));
+            if (backdrops.draw(g, bg, 0, 0, WIDTH, HEIGHT)) {
+                g.setColor(DIM_150);
                 g.fillRect(0, 0, WIDTH, HEIGHT);
             } else {
                 g.setColor(Color.BLACK);
                 g.fillRect(0, 0, WIDTH, HEIGHT);
             }
 
-            g.setFont(new Font("SansSerif", Font.BOLD, 56));
-
             g.setColor(
                     overallGood
-                            ? new Color(150, 220, 255)
-                            : new Color(255, 150, 150)
+                            ? FINAL_GOOD_TITLE
+                            : BAD_TITLE
             );
 
             String title =
                     StageStory.getEndingTitle(currentStageIndex, overallGood);
 
-            int titleX =
-                    (WIDTH - g.getFontMetrics().stringWidth(title)) / 2;
-
-            g.drawString(title, titleX, 70);
-
-            int x = 100;
-            int y = 200;
+            sansBold56.drawCentered(g, title, 0, WIDTH, 70);
 
             g.setColor(Color.WHITE);
-            g.setFont(new Font("SansSerif", Font.PLAIN, 22));
-
-            for (int i = 0; i < allLines.length; i++) {
-
-                String line = allLines[i];
 
-                if (i < info.getCurrentLineIndex()) {
-                    g.drawString(line, x, y);
-                } else if (i == info.getCurrentLineIndex()) {
-                    int end = Math.min(info.getCurrentCharIndex(), line.length());
-                    g.drawString(line.substring(0, end), x, y);
-                }
-
-                y += 32;
-            }
+            drawTypedLines(g, sansPlain22, script, info.getTyping(), 100, 200, 32);
 
-            g.setFont(new Font("SansSerif", Font.BOLD, 22));
-            g.setColor(new Color(100, 255, 100));
-            g.drawString("ENTER", WIDTH - 110, HEIGHT - 50);
+            g.setColor(PROMPT_GREEN);
+            sansBold22.draw(g, "ENTER", WIDTH - 110, HEIGHT - 50);
         }
 
         private void renderFinalEndingPhase2(Graphics2D g) {
@@ -2059,59 +2326,41 @@ public class GameCore {
             g.setColor(Color.BLACK);
             g.fillRect(0, 0, WIDTH, HEIGHT);
 
-            if (finalEndingPhase2Text == null) {
-                finalEndingPhase2Text = "";
-            }
+            TypedScript script =
+                    (finalEndingPhase2Script != null)
+                            ? finalEndingPhase2Script
+                            : TypedScript.EMPTY;
 
             g.setColor(Color.WHITE);
-            g.setFont(new Font("SansSerif", Font.PLAIN, 18));
-
-            String[] lines =
-                    finalEndingPhase2Text.split("\n");
 
             int lineHeight =
-                    g.getFontMetrics().getHeight();
+                    sansPlain18.getHeight(g);
 
             int startY =
-                    HEIGHT / 2 - (lines.length * lineHeight) / 2;
-
-            int totalChars =
-                    finalEndingPhase2Text.length();
-
-            boolean done =
-                    (phase2CurrentCharIndex >= totalChars);
-
-            int renderedBefore =
-                    0;
-
-            for (int i = 0; i < lines.length; i++) {
+                    HEIGHT / 2 - (script.lineCount() * lineHeight) / 2;
 
-                String line =
-                        lines[i];
+            int current =
+                    phase2Typing.getLine();
 
-                int len =
-                        line.length();
-
-                int can =
-                        Math.max(0, phase2CurrentCharIndex - renderedBefore);
+            for (int i = 0; i <= current && i < script.lineCount(); i++) {
 
                 int draw =
-                        Math.min(len, can);
+                        (i < current)
+                                ? script.lineLength(i)
+                                : phase2Typing.getChars();
 
                 if (draw > 0) {
-                    int x = (WIDTH - g.getFontMetrics().stringWidth(line)) / 2;
-                    g.drawString(line.substring(0, draw), x, startY + i * lineHeight);
-                }
 
-                renderedBefore += len + 1;
+                    // 가운데 정렬은 줄 전체 폭 기준이라 타이핑 중에도 글자가 밀리지 않음
+                    int x = (WIDTH - sansPlain18.width(g, script.line(i))) / 2;
+
+                    sansPlain18.draw(g, script.chars(), script.lineStart(i), draw, x, startY + i * lineHeight);
+                }
             }
 
-            if (done) {
-                g.setFont(new Font("SansSerif", Font.BOLD, 14));
-                g.setColor(new Color(100, 255, 100));
-                String prompt = "ENTER: 메인 화면";
-                int px = (WIDTH - g.getFontMetrics().stringWidth(prompt)) / 2;
-                g.drawString(prompt, px, HEIGHT - 50);
+            if (phase2Typing.isComplete()) {
+                g.setColor(PROMPT_GREEN);
+                sansBold14.drawCentered(g, "ENTER: 메인 화면", 0, WIDTH, HEIGHT - 50);
             }
         }
 
@@ -2122,65 +2371,175 @@ public class GameCore {
 
             g.setColor(Color.BLACK);
 
-            g.setFont(
-                    g.getFont().deriveFont(Font.BOLD, 24f)
-            );
-
-            String title =
-                    "Bounce Escape";
-
-            int titleWidth =
-                    g.getFontMetrics().stringWidth(title);
-
-            g.drawString(title, (WIDTH - titleWidth) / 2, 120);
-
-            g.setFont(
-                    g.getFont().deriveFont(Font.PLAIN, 14f)
-            );
-
-            String line1 =
-                    "Enter 키를 눌러 게임을 시작합니다.";
+            hudText24.drawCentered(g, "Bounce Escape", 0, WIDTH, 120);
 
-            int l1w =
-                    g.getFontMetrics().stringWidth(line1);
-
-            g.drawString(line1, (WIDTH - l1w) / 2, 180);
+            dialogPlain14.drawCentered(g, "Enter 키를 눌러 게임을 시작합니다.", 0, WIDTH, 180);
         }
 
         private void renderDebugInfo(Graphics2D g) {
 
-            g.setFont(new Font("Monospaced", Font.PLAIN, 12));
-            g.setColor(new Color(0, 0, 0, 180));
+            g.setColor(DIM_180);
 
-            int x  = WIDTH - 240;
+            int x  = WIDTH - 280;
             int y  = 20;
             int dy = 16;
 
-            g.drawString(String.format("FPS: %.1f", currentFps), x, y);
+            monoPlain12.draw(g, line().append("FPS: ").appendFixed(currentFps, 1), x, y);
+            y += dy;
+
+            if (framePacer.isCpuTimeSupported()) {
+                monoPlain12.draw(g, line()
+                        .append("CPU/frame: ").appendFixed(framePacer.getLastFrameCpuUsage() * 100.0, 0)
+                        .append("% (avg ").appendFixed(framePacer.getSmoothedCpuUsage() * 100.0, 0)
+                        .append("%)"), x, y);
+                y += dy;
+            }
+
+            monoPlain12.draw(g, line()
+                    .append("Slack: sleep ").appendFixed(framePacer.getSleepSlackNanos() / 1_000_000.0, 2)
+                    .append(" / park ").appendFixed(framePacer.getParkSlackNanos() / 1_000_000.0, 3)
+                    .append(" ms"), x, y);
             y += dy;
 
+            Player player =
+                    sim.getPlayer();
+
             if (player != null) {
 
-                g.drawString(String.format("Player: (%.1f, %.1f)", player.getX(), player.getY()), x, y);
+                monoPlain12.draw(g, line()
+                        .append("Player: (").appendFixed(player.getX(), 1)
+                        .append(", ").appendFixed(player.getY(), 1)
+                        .append(')'), x, y);
+                y += dy;
+
+                monoPlain12.draw(g, line().append("VelY: ").appendFixed(player.getVelY(), 1), x, y);
                 y += dy;
 
-                g.drawString(String.format("VelY: %.1f", player.getVelY()), x, y);
+                monoPlain12.draw(g, line().append("OnGround: ").append(player.isOnGround()), x, y);
                 y += dy;
 
-                g.drawString("OnGround: " + player.isOnGround(), x, y);
+                monoPlain12.draw(g, line().append("Form: ").append(player.getForm().name()), x, y);
                 y += dy;
+            }
 
-                g.drawString("Form: " + player.getForm(), x, y);
+            if (!isActiveRendering()) {
+                monoPlain12.draw(g, line()
+                        .append("Frames: drop ").append(frameExchange.getDroppedCount())
+                        .append(" / dup ").append(frameExchange.getDuplicatedCount()), x, y);
                 y += dy;
             }
 
-            g.drawString("State: " + state, x, y);
+            monoPlain12.draw(g, line().append("State: ").append(state.name()), x, y);
             y += dy;
 
-            g.drawString("Console: " + (consoleOpen ? "OPEN" : "CLOSED"), x, y);
+            monoPlain12.draw(g, consoleOpen ? "Console: OPEN" : "Console: CLOSED", x, y);
             y += dy;
         }
 
+        /**
+         * 성능 그래프 (콘솔 P 토글)
+         * 막대 하나 = 프레임 하나. 전체 높이는 프레임 시간, 안쪽 진한 부분은 실제 작업 시간.
+         * 목표 프레임 시간을 넘으면 노랑, 두 배를 넘으면 빨강, GC 가 있던 프레임은 위에 표시.
+         */
+        private void renderPerfOverlay(Graphics2D g) {
+
+            final int GRAPH_H = 80;
+
+            // 그래프보다 아래 글자 줄이 더 넓음
+            int w = FrameStats.HISTORY + 80;
+            int h = GRAPH_H + 90;
+
+            int x = WIDTH - w - 10;
+            int y = HEIGHT - h - 10;
+
+            g.setColor(PERF_BG);
+            g.fillRect(x, y, w, h);
+
+            int gx = x + 10;
+            int baseY = y + 10 + GRAPH_H;
+
+            long budget =
+                    framePacer.getTarget().getPeriodNanos();
+
+            if (budget <= 0L) {
+                budget = 1_000_000_000L / 60;
+            }
+
+            // 그래프 세로 범위: 목표 프레임 시간의 2배
+            double scale =
+                    GRAPH_H / (budget * 2.0);
+
+            int n =
+                    frameStats.getCount();
+
+            int startX =
+                    gx + FrameStats.HISTORY - n;
+
+            for (int i = 0; i < n; i++) {
+
+                long frame =
+                        frameStats.getFrameNanos(i);
+
+                int fh =
+                        (int) Math.min(GRAPH_H, frame * scale);
+
+                int bh =
+                        (int) Math.min(GRAPH_H, frameStats.getBusyNanos(i) * scale);
+
+                g.setColor(
+                        frame > budget * 2
+                                ? PERF_BAR_SLOW
+                                : frame > budget + budget / 10
+                                        ? PERF_BAR_LATE
+                                        : PERF_BAR_OK
+                );
+
+                g.drawLine(startX + i, baseY, startX + i, baseY - fh);
+
+                g.setColor(PERF_BAR_BUSY);
+                g.drawLine(startX + i, baseY, startX + i, baseY - bh);
+
+                if (frameStats.hadGc(i)) {
+                    g.setColor(PERF_GC_MARK);
+                    g.drawLine(startX + i, baseY - GRAPH_H, startX + i, baseY - GRAPH_H + 4);
+                }
+            }
+
+            // 목표 프레임 시간 기준선
+            g.setColor(PERF_BUDGET_LINE);
+            g.drawLine(gx, baseY - GRAPH_H / 2, gx + FrameStats.HISTORY, baseY - GRAPH_H / 2);
+
+            g.setColor(Color.WHITE);
+
+            int ty = baseY + 18;
+
+            monoPlain12.draw(g, line()
+                    .append("frame p50 ").appendFixed(frameStats.getP50Nanos() / 1_000_000.0, 2)
+                    .append("  p99 ").appendFixed(frameStats.getP99Nanos() / 1_000_000.0, 2)
+                    .append("  max ").appendFixed(frameStats.getMaxNanos() / 1_000_000.0, 2)
+                    .append(" ms"), gx, ty);
+            ty += 16;
+
+            monoPlain12.draw(g, line()
+                    .append("upd ").appendFixed(frameStats.getAvgUpdateNanos() / 1_000_000.0, 2)
+                    .append("  rnd ").appendFixed(frameStats.getAvgRenderNanos() / 1_000_000.0, 2)
+                    .append("  pres ").appendFixed(frameStats.getAvgPresentNanos() / 1_000_000.0, 2)
+                    .append(" ms"), gx, ty);
+            ty += 16;
+
+            monoPlain12.draw(g, line()
+                    .append("GC ").append(frameStats.getGcCountSinceReset())
+                    .append(" (").append(frameStats.getGcMillisSinceReset())
+                    .append(" ms)  in graph ").append(frameStats.getWindowGcEvents()), gx, ty);
+            ty += 16;
+
+            if (frameStats.isAllocTrackingSupported()) {
+                monoPlain12.draw(g, line()
+                        .append("alloc ").appendFixed(frameStats.getAvgAllocBytes() / 1024.0, 1)
+                        .append(" KB/frame"), gx, ty);
+            }
+        }
+
         private void renderTutorialHintOverlay(Graphics2D g) {
 
             if (currentStageIndex != 0) return;
@@ -2193,15 +2552,12 @@ public class GameCore {
             int x = (WIDTH - w) / 2;
             int y = 90;
 
-            g.setColor(new Color(0, 0, 0, 170));
+            g.setColor(HINT_BG);
             g.fillRoundRect(x, y, w, h, 14, 14);
 
-            g.setColor(new Color(255, 255, 180));
-            g.setFont(new Font("SansSerif", Font.BOLD, 16));
+            g.setColor(HINT_TEXT);
 
-            int tw = g.getFontMetrics().stringWidth(tutHintText);
-
-            g.drawString(tutHintText, x + (w - tw) / 2, y + 30);
+            sansBold16.drawCentered(g, tutHintText, x, w, y + 30);
         }
 
         private void renderConsoleOverlay(Graphics2D g) {
@@ -2214,28 +2570,37 @@ public class GameCore {
             int y = 110;
 
             int w = 330;
-            int h = 190;
+            int h = 226;
 
-            g.setColor(new Color(10, 10, 10, 200));
+            g.setColor(CONSOLE_BG);
             g.fillRoundRect(x, y, w, h, 14, 14);
 
-            g.setColor(new Color(255, 255, 255, 220));
-            g.setFont(new Font("SansSerif", Font.BOLD, 14));
-            g.drawString("DEBUG CONSOLE (F 토글)", x + 14, y + 22);
+            g.setColor(CONSOLE_TEXT);
+            sansBold14.draw(g, "DEBUG CONSOLE (F 토글)", x + 14, y + 22);
 
-            g.setFont(new Font("SansSerif", Font.PLAIN, 13));
             int yy = y + 44;
 
-            g.drawString("0~3 : 스테이지 이동", x + 14, yy); yy += 18;
-            g.drawString("I   : 무적 토글 (" + (invincible ? "ON" : "OFF") + ")", x + 14, yy); yy += 18;
-            g.drawString("[ ] : 속도 배수 " + String.format("%.2f", speedMul), x + 14, yy); yy += 18;
-            g.drawString("- = : 중력 배수 " + String.format("%.2f", gravityMul), x + 14, yy); yy += 18;
-            g.drawString("C   : 히트박스 (" + (debugDrawHitbox ? "ON" : "OFF") + ")", x + 14, yy); yy += 18;
-            g.drawString("V   : 디버그정보 (" + (debugShowInfo ? "ON" : "OFF") + ")", x + 14, yy); yy += 18;
-            g.drawString("Q   : 즉시 퀴즈(현 스테이지)", x + 14, yy); yy += 18;
+            sansPlain13.draw(g, "0~3 : 스테이지 이동", x + 14, yy); yy += 18;
+            sansPlain13.draw(g, line().append("I   : 무적 토글 (").append(onOff(sim.isInvincible())).append(')'), x + 14, yy); yy += 18;
+            sansPlain13.draw(g, line().append("[ ] : 속도 배수 ").appendFixed(sim.getSpeedMul(), 2), x + 14, yy); yy += 18;
+            sansPlain13.draw(g, line().append("- = : 중력 배수 ").appendFixed(sim.getGravityMul(), 2), x + 14, yy); yy += 18;
+            sansPlain13.draw(g, line().append("C   : 히트박스 (").append(onOff(debugDrawHitbox)).append(')'), x + 14, yy); yy += 18;
+            sansPlain13.draw(g, line().append("V   : 디버그정보 (").append(onOff(debugShowInfo)).append(')'), x + 14, yy); yy += 18;
+            sansPlain13.draw(g, "Q   : 즉시 퀴즈(현 스테이지)", x + 14, yy); yy += 18;
+            sansPlain13.draw(g, line().append("T   : 프레임 제한 (").append(framePacer.getTarget().getLabel()).append(')'), x + 14, yy); yy += 18;
+            sansPlain13.draw(g, line().append("P   : 성능 그래프 (").append(onOff(perfOverlayOn)).append(')'), x + 14, yy); yy += 18;
+
+            g.setColor(CONSOLE_NOTE);
+            sansPlain13.draw(g, "콘솔 열림: 이동/점프 입력 일시정지", x + 14, y + h - 18);
+        }
+
+        private static String onOff(boolean on) {
+            return on ? "ON" : "OFF";
+        }
 
-            g.setColor(new Color(255, 255, 120, 220));
-            g.drawString("콘솔 열림: 이동/점프 입력 일시정지", x + 14, y + h - 18);
+        /** 이번에 그릴 한 줄짜리 가변 문자열 (그린 직후 다음 줄이 재사용) */
+        private TextBuffer line() {
+            return textLine.clear();
         }
 
         public void initPausePanel(JPanel mainContainer) {
@@ -2250,7 +2615,8 @@ public class GameCore {
             add(this.pausePanel);
         }
 
-        public void pauseGame() {
+        /** 게임 스레드에서 호출. 패널 전환만 EDT 로 넘긴다 */
+        private void pauseGame() {
 
             if (state == GameState.STAGE_PLAY || state == GameState.TUTORIAL) {
 
@@ -2260,11 +2626,16 @@ public class GameCore {
                 state =
                         GameState.PAUSE;
 
-                pausePanel.setVisible(true);
-
-                pausePanel.requestFocusInWindow();
+                keyboardInput.releaseAll();
 
-                revalidate();
+                SwingUtilities.invokeLater(
+                        () -> {
+                            setRenderCanvasVisible(false);
+                            pausePanel.setVisible(true);
+                            pausePanel.requestFocusInWindow();
+                            revalidate();
+                        }
+                );
 
                 StageInfo info =
                         stageInfos[currentStageIndex];
@@ -2275,18 +2646,27 @@ public class GameCore {
             }
         }
 
+        /** 일시정지 패널 버튼(EDT)에서 호출. 실제 재개는 게임 스레드가 처리 */
         public void resumeGame() {
 
+            inputEvents.offer(InputEventQueue.RESUME, 0);
+        }
+
+        private void applyResume() {
+
             if (state == GameState.PAUSE) {
 
                 state =
                         lastPlayState;
 
-                pausePanel.setVisible(false);
-
-                requestFocusInWindow();
-
-                revalidate();
+                SwingUtilities.invokeLater(
+                        () -> {
+                            pausePanel.setVisible(false);
+                            setRenderCanvasVisible(true);
+                            requestFocusInWindow();
+                            revalidate();
+                        }
+                );
 
                 StageInfo info =
                         stageInfos[currentStageIndex];
@@ -2306,8 +2686,9 @@ public class GameCore {
                 this.pausePanel.setVisible(false);
             }
 
-            this.phase2CurrentCharIndex = 0;
-            this.phase2TypingTimer      = 0.0;
+            setRenderCanvasVisible(true);
+
+            this.phase2Typing.reset();
 
             this.phase2TypingSoundPlaying = false;
 
@@ -2319,13 +2700,32 @@ public class GameCore {
             }
         }
 
+        /** EDT 에서 부르면 마지막 프레임이 끝날 때까지 기다렸다가 돌아간다 */
         public void stopGameThread() {
 
             running =
                     false;
 
+            Thread loop =
+                    gameThread;
+
             gameThread =
                     null;
+
+            joinQuietly(loop);
+        }
+
+        private static void joinQuietly(Thread thread) {
+
+            if (thread == null || thread == Thread.currentThread()) {
+                return;
+            }
+
+            try {
+                thread.join(THREAD_JOIN_TIMEOUT_MS);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
         }
 
         private void updateEndingTyping(double dt) {
@@ -2339,64 +2739,23 @@ public class GameCore {
 
             if (!info.isTypingFinished()) {
 
-                double newTimer =
-                        info.getTypingTimer() + dt;
-
-                info.setTypingTimer(newTimer);
-
-                int currentLine =
-                        info.getCurrentLineIndex();
-
-                double textSpeed =
-                        info.getTextDisplaySpeed();
-
                 boolean endingResult =
                         (currentStageIndex == 3)
                                 ? finalResultGood
                                 : lastAnswerCorrect;
 
-                String[] allLines =
-                        StageStory.getEndingLines(currentStageIndex, endingResult);
-
-                if (currentLine >= allLines.length) {
-                    info.finishTypingAndCheckEnd();
-                    return;
-                }
-
-                int totalCharsInLine =
-                        allLines[currentLine].length();
-
-                int targetCharCount =
-                        (int) (info.getTypingTimer() / textSpeed);
-
-                if (targetCharCount >= totalCharsInLine) {
-
-                    info.setCurrentCharIndex(totalCharsInLine);
-
-                    if (currentLine < allLines.length - 1) {
-
-                        if (info.getTypingTimer() >= totalCharsInLine * textSpeed + 0.05) {
-
-                            info.setCurrentLineIndex(currentLine + 1);
-
-                            info.setTypingTimer(0.0);
-
-                            info.setCurrentCharIndex(0);
-                        }
-
-                    } else {
-
-                        if (info.getTypingTimer() >= totalCharsInLine * textSpeed + 0.05) {
+                Typewriter typing =
+                        info.getTyping();
 
-                            if (currentStageIndex != 3) {
-                                info.finishTypingAndCheckEnd();
-                            }
-                        }
-                    }
+                typing.setScript(
+                        StageStory.getEndingScript(currentStageIndex, endingResult)
+                );
 
-                } else {
+                typing.update(dt);
 
-                    info.setCurrentCharIndex(targetCharCount);
+                // 마지막 스테이지는 ENTER 로 두 번째 화면에 넘어감
+                if (typing.isComplete() && typing.isPauseOver() && currentStageIndex != 3) {
+                    info.finishTypingAndCheckEnd();
                 }
 
                 return;
@@ -2404,38 +2763,25 @@ public class GameCore {
 
             if (currentStageIndex != 3) return;
 
-            if (finalEndingPhase2Text == null) return;
+            if (finalEndingPhase2Script == null) return;
 
-            int totalChars =
-                    finalEndingPhase2Text.length();
-
-            if (!phase2TypingSoundPlaying && phase2CurrentCharIndex == 0) {
+            if (!phase2TypingSoundPlaying && phase2Typing.isAtStart()) {
 
                 if (GameCore.getSoundManager() != null) {
 
-                    GameCore.getSoundManager().stopBGM();
-
-                    GameCore.getSoundManager().playBGM(SoundManager.SFX_TYPING);
+                    // 첫 글자부터 들리도록 크로스페이드 없이 바로 교체
+                    GameCore.getSoundManager().playLoopNow(SoundManager.SFX_TYPING);
 
                     phase2TypingSoundPlaying = true;
                 }
             }
 
-            if (phase2CurrentCharIndex < totalChars) {
+            phase2Typing.update(dt);
 
-                phase2TypingTimer += dt;
-
-                int charsToDisplay =
-                        (int) (phase2TypingTimer / phase2TextDisplaySpeed);
-
-                phase2CurrentCharIndex =
-                        Math.min(charsToDisplay, totalChars);
-            }
-
-            if (phase2TypingSoundPlaying && phase2CurrentCharIndex >= totalChars) {
+            if (phase2TypingSoundPlaying && phase2Typing.isComplete()) {
 
                 if (GameCore.getSoundManager() != null) {
-                    GameCore.getSoundManager().stopBGM();
+                    GameCore.getSoundManager().stopLoopNow();
                 }
 
                 phase2TypingSoundPlaying =
@@ -2448,9 +2794,7 @@ public class GameCore {
 
             super.paintComponent(g);
 
-            if (backBuffer != null) {
-                g.drawImage(backBuffer, 0, 0, null);
-            }
+            g.drawImage(frameExchange.acquireFront(), 0, 0, null);
         }
 
         private void showTutHint(String msg) {
@@ -2503,36 +2847,117 @@ public class GameCore {
 
             if (consoleOpen) {
 
-                leftPressed  = false;
-                rightPressed = false;
+                keyboardInput.releaseAll();
+
+                // 콘솔로 배수/무적을 바꿀 수 있으므로 이번 도전은 재현 불가
+                inputRecorder.markTainted();
             }
         }
 
         private void adjustSpeed(double delta) {
 
-            speedMul =
-                    clamp(speedMul + delta, 0.25, 3.00);
+            sim.setSpeedMul(
+                    clamp(sim.getSpeedMul() + delta, 0.25, 3.00)
+            );
         }
 
         private void adjustGravity(double delta) {
 
-            gravityMul =
-                    clamp(gravityMul + delta, 0.25, 3.00);
+            sim.setGravityMul(
+                    clamp(sim.getGravityMul() + delta, 0.25, 3.00)
+            );
         }
 
         private double clamp(double v, double lo, double hi) {
             return Math.max(lo, Math.min(hi, v));
         }
 
-        private int clampInt(int v, int lo, int hi) {
-            return Math.max(lo, Math.min(hi, v));
-        }
+        // ===============================
+        // Key Events (EDT → inputEvents)
+        // ===============================
 
         @Override
         public void keyPressed(KeyEvent e) {
 
-            int code =
-                    e.getKeyCode();
+            inputEvents.offer(
+                    InputEventQueue.KEY_PRESSED,
+                    e.getKeyCode()
+            );
+        }
+
+        @Override
+        public void keyReleased(KeyEvent e) {
+
+            inputEvents.offer(
+                    InputEventQueue.KEY_RELEASED,
+                    e.getKeyCode()
+            );
+        }
+
+        @Override
+        public void keyTyped(KeyEvent e) {
+        }
+
+        // ===============================
+        // Input Drain (Game Thread)
+        // ===============================
+
+        /**
+         * 쌓인 입력 이벤트를 게임 스레드에서 처리 (프레임/틱 시작마다)
+         * 같은 틱 안에서 눌렀다 뗀 이동 키는 떼는 이벤트를 다음 틱으로 미뤄
+         * 짧게 톡 친 입력도 최소 한 틱은 시뮬레이션에 들어가게 한다.
+         */
+        private void drainInput() {
+
+            boolean leftDown  = false;
+            boolean rightDown = false;
+
+            while (true) {
+
+                int event =
+                        inputEvents.peek();
+
+                if (event == InputEventQueue.NONE) {
+                    return;
+                }
+
+                int type =
+                        InputEventQueue.typeOf(event);
+
+                int code =
+                        InputEventQueue.codeOf(event);
+
+                if (type == InputEventQueue.KEY_RELEASED
+                        && ((code == keys.MOVE_LEFT && leftDown)
+                        || (code == keys.MOVE_RIGHT && rightDown))) {
+                    return;
+                }
+
+                inputEvents.poll();
+
+                if (type == InputEventQueue.KEY_PRESSED) {
+
+                    if (code == keys.MOVE_LEFT)  leftDown  = true;
+                    if (code == keys.MOVE_RIGHT) rightDown = true;
+
+                    handleKeyPressed(code);
+
+                } else if (type == InputEventQueue.KEY_RELEASED) {
+
+                    handleKeyReleased(code);
+
+                } else if (type == InputEventQueue.RELEASE_ALL) {
+
+                    keyboardInput.releaseAll();
+
+                } else if (type == InputEventQueue.RESUME) {
+
+                    applyResume();
+                }
+            }
+        }
+
+        private void handleKeyPressed(int code) {
 
             if (code == keys.CONSOLE_TOGGLE) {
                 toggleConsole();
@@ -2588,7 +3013,7 @@ public class GameCore {
             }
 
             if (code == keys.INVINCIBLE_TOGGLE) {
-                invincible = !invincible;
+                sim.setInvincible(!sim.isInvincible());
                 return true;
             }
 
@@ -2602,6 +3027,11 @@ public class GameCore {
                 return true;
             }
 
+            if (code == keys.PERF_OVERLAY_TOGGLE) {
+                perfOverlayOn = !perfOverlayOn;
+                return true;
+            }
+
             if (code == keys.SPEED_DOWN) {
                 adjustSpeed(-0.10);
                 return true;
@@ -2622,6 +3052,11 @@ public class GameCore {
                 return true;
             }
 
+            if (code == keys.FRAME_CAP_CYCLE) {
+                framePacer.cycleTarget();
+                return true;
+            }
+
             if (code == keys.FORCE_QUIZ) {
 
                 if (state == GameState.TUTORIAL || state == GameState.STAGE_PLAY) {
@@ -2651,7 +3086,7 @@ public class GameCore {
         private void handlePauseToggle() {
 
             if (state == GameState.PAUSE) {
-                resumeGame();
+                applyResume();
                 return;
             }
 
@@ -2684,7 +3119,7 @@ public class GameCore {
 
             if (code == keys.MOVE_LEFT) {
 
-                leftPressed = true;
+                keyboardInput.left = true;
 
                 if (currentStageIndex == 0 && !tutMovedOnce) {
                     tutMovedOnce = true;
@@ -2696,7 +3131,7 @@ public class GameCore {
 
             if (code == keys.MOVE_RIGHT) {
 
-                rightPressed = true;
+                keyboardInput.right = true;
 
                 if (currentStageIndex == 0 && !tutMovedOnce) {
                     tutMovedOnce = true;
@@ -2708,30 +3143,61 @@ public class GameCore {
 
             if (code == keys.ABILITY) {
 
-                if (player != null && (state == GameState.TUTORIAL || state == GameState.STAGE_PLAY)) {
-                    player.useAbility();
+                if (state == GameState.TUTORIAL || state == GameState.STAGE_PLAY) {
+                    keyboardInput.abilityPressed = true;
                 }
             }
         }
 
-        @Override
-        public void keyReleased(KeyEvent e) {
-
-            int code =
-                    e.getKeyCode();
+        private void handleKeyReleased(int code) {
 
             if (code == keys.MOVE_LEFT) {
-                leftPressed = false;
+                keyboardInput.left = false;
                 return;
             }
 
             if (code == keys.MOVE_RIGHT) {
-                rightPressed = false;
+                keyboardInput.right = false;
             }
         }
 
-        @Override
-        public void keyTyped(KeyEvent e) {
+        /** drainInput 이 쓰고 시뮬레이션이 읽는 입력 (둘 다 게임 스레드) */
+        private static class KeyboardInput implements InputSource {
+
+            boolean left;
+            boolean right;
+
+            boolean abilityPressed;
+
+            void releaseAll() {
+
+                left = false;
+                right = false;
+
+                abilityPressed = false;
+            }
+
+            @Override
+            public boolean isLeftHeld() {
+                return left;
+            }
+
+            @Override
+            public boolean isRightHeld() {
+                return right;
+            }
+
+            @Override
+            public boolean consumeAbilityPress() {
+
+                if (!abilityPressed) {
+                    return false;
+                }
+
+                abilityPressed = false;
+
+                return true;
+            }
         }
 
         private static class KeyMap {
@@ -2762,101 +3228,10 @@ public class GameCore {
             final int GRAV_UP    = KeyEvent.VK_EQUALS;
 
             final int FORCE_QUIZ = KeyEvent.VK_Q;
-        }
-
-        private static class Gear {
-
-            enum Axis {
-                HORIZONTAL,
-                VERTICAL
-            }
-
-            final double baseX;
-            final double baseY;
-
-            final Axis axis;
-
-            final double amp;
-            final double speed;
-
-            double t = 0.0;
-
-            double x;
-            double y;
-
-            private Gear(double baseX, double baseY, Axis axis, double amp, double speed) {
 
-                this.baseX  = baseX;
-                this.baseY  = baseY;
+            final int FRAME_CAP_CYCLE = KeyEvent.VK_T;
 
-                this.axis   = axis;
-
-                this.amp    = amp;
-                this.speed  = speed;
-
-                this.x      = baseX;
-                this.y      = baseY;
-            }
-
-            static Gear horizontal(double baseX, double baseY, double amp, double speed) {
-
-                return new Gear(baseX, baseY, Axis.HORIZONTAL, amp, speed);
-            }
-
-            static Gear vertical(double baseX, double baseY, double amp, double speed) {
-
-                return new Gear(baseX, baseY, Axis.VERTICAL, amp, speed);
-            }
-
-            void update(double dt) {
-
-                t += dt;
-
-                double offset =
-                        Math.sin(t * speed) * amp;
-
-                if (axis == Axis.HORIZONTAL) {
-
-                    x = baseX + offset;
-                    y = baseY;
-
-                } else {
-
-                    x = baseX;
-                    y = baseY + offset;
-                }
-            }
-
-            double getRadius() {
-
-                return TILE_SIZE * 0.42;
-            }
-
-            boolean collidesWith(Rectangle pr) {
-
-                double cx =
-                        x + TILE_SIZE / 2.0;
-
-                double cy =
-                        y + TILE_SIZE / 2.0;
-
-                double r =
-                        getRadius();
-
-                double nearestX =
-                        Math.max(pr.x, Math.min(cx, pr.x + pr.width));
-
-                double nearestY =
-                        Math.max(pr.y, Math.min(cy, pr.y + pr.height));
-
-                double dx =
-                        cx - nearestX;
-
-                double dy =
-                        cy - nearestY;
-
-                return (dx * dx + dy * dy) <= (r * r);
-            }
+            final int PERF_OVERLAY_TOGGLE = KeyEvent.VK_P;
         }
     }
 }
\ No newline at end of file
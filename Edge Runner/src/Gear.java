@@ -0,0 +1,136 @@
+import java.awt.Rectangle;
+
+/**
+ * 왕복 운동하는 톱니 장애물 (G: 좌우, H: 상하)
+ */
+public class Gear {
+
+    enum Axis {
+        HORIZONTAL,
+        VERTICAL
+    }
+
+    final double baseX;
+    final double baseY;
+
+    final Axis axis;
+
+    final double amp;
+    final double speed;
+
+    double t = 0.0;
+
+    double x;
+    double y;
+
+    double prevX;
+    double prevY;
+
+    private Gear(double baseX, double baseY, Axis axis, double amp, double speed) {
+
+        this.baseX  = baseX;
+        this.baseY  = baseY;
+
+        this.axis   = axis;
+
+        this.amp    = amp;
+        this.speed  = speed;
+
+        this.x      = baseX;
+        this.y      = baseY;
+
+        this.prevX  = baseX;
+        this.prevY  = baseY;
+    }
+
+    static Gear horizontal(double baseX, double baseY, double amp, double speed) {
+
+        return new Gear(baseX, baseY, Axis.HORIZONTAL, amp, speed);
+    }
+
+    static Gear vertical(double baseX, double baseY, double amp, double speed) {
+
+        return new Gear(baseX, baseY, Axis.VERTICAL, amp, speed);
+    }
+
+    /**
+     * 스테이지 시간 time 의 위치로 바로 옮긴다.
+     * 위치가 시간만의 함수라 활성 범위 밖에서 건너뛴 틱이 있어도 결과가 같다.
+     */
+    void advanceTo(double time) {
+
+        t = time;
+
+        double offset =
+                Math.sin(t * speed) * amp;
+
+        if (axis == Axis.HORIZONTAL) {
+
+            x = baseX + offset;
+            y = baseY;
+
+        } else {
+
+            x = baseX;
+            y = baseY + offset;
+        }
+    }
+
+    void reset() {
+
+        t = 0.0;
+
+        x = baseX;
+        y = baseY;
+
+        prevX = baseX;
+        prevY = baseY;
+    }
+
+    void savePreviousState() {
+
+        prevX = x;
+        prevY = y;
+    }
+
+    double getRenderX(double alpha) {
+
+        return prevX + (x - prevX) * alpha;
+    }
+
+    double getRenderY(double alpha) {
+
+        return prevY + (y - prevY) * alpha;
+    }
+
+    double getRadius() {
+
+        return StageSimulation.TILE_SIZE * 0.42;
+    }
+
+    boolean collidesWith(Rectangle pr) {
+
+        double cx =
+                x + StageSimulation.TILE_SIZE / 2.0;
+
+        double cy =
+                y + StageSimulation.TILE_SIZE / 2.0;
+
+        double r =
+                getRadius();
+
+        double nearestX =
+                Math.max(pr.x, Math.min(cx, pr.x + pr.width));
+
+        double nearestY =
+                Math.max(pr.y, Math.min(cy, pr.y + pr.height));
+
+        double dx =
+                cx - nearestX;
+
+        double dy =
+                cy - nearestY;
+
+        return (dx * dx + dy * dy) <= (r * r);
+    }
+}
@@ -0,0 +1,307 @@
+import java.io.File;
+import java.io.IOException;
+import java.util.Random;
+
+/**
+ * 화면 없이 StageSimulation 을 실시간보다 빠르게 돌리는 실행기
+ * - 레벨 검증 / 회귀 테스트용 (디스플레이 없는 CI 에서도 동작)
+ * - 한 번의 도전은 사망, 별 전부 획득, 틱 제한 중 먼저 오는 것으로 끝난다.
+ * - --replay 로 게임에서 저장한 입력 기록(.errp)을 다시 돌려 결과가 같은지 확인
+ *
+ * 실행 예)
+ *   java -Djava.awt.headless=true -cp bin HeadlessRunner --stage 1 --attempts 5000
+ *   java -Djava.awt.headless=true -cp bin HeadlessRunner --stage 0 --script "0:R+ 90:A 200:R-"
+ *   java -Djava.awt.headless=true -cp bin HeadlessRunner --level my_level --attempts 2000   (levels/my_level.txt)
+ *   java -Djava.awt.headless=true -cp bin HeadlessRunner --replay replays/stage1_..._death.errp --repeat 1000
+ */
+public class HeadlessRunner {
+
+    private static final double STEP = 1.0 / 120.0;
+
+    public static void main(String[] args) {
+
+        int stage = 1;
+        int attempts = 1000;
+        int repeat = 1;
+        long maxTicks = 120L * 60L;
+        long seed = 1L;
+        String script = null;
+        String replay = null;
+        String level = null;
+
+        for (int i = 0; i + 1 < args.length; i += 2) {
+
+            switch (args[i]) {
+                case "--stage":    stage = Integer.parseInt(args[i + 1]); break;
+                case "--attempts": attempts = Integer.parseInt(args[i + 1]); break;
+                case "--ticks":    maxTicks = Long.parseLong(args[i + 1]); break;
+                case "--seed":     seed = Long.parseLong(args[i + 1]); break;
+                case "--script":   script = args[i + 1]; break;
+                case "--replay":   replay = args[i + 1]; break;
+                case "--level":    level = args[i + 1]; break;
+                case "--repeat":   repeat = Integer.parseInt(args[i + 1]); break;
+                default:
+                    System.err.println("알 수 없는 옵션: " + args[i]);
+                    return;
+            }
+        }
+
+        if (replay != null) {
+            runReplay(new File(replay), repeat);
+            return;
+        }
+
+        runAttempts(stage, level, attempts, maxTicks, seed, script);
+    }
+
+    // ===============================
+    // Scripted / Random Attempts
+    // ===============================
+
+    private static void runAttempts(int stage, String level, int attempts, long maxTicks, long seed, String script) {
+
+        String label =
+                (level != null) ? level : MapLoader.stageName(stage);
+
+        MapLoader.MapData map =
+                (level != null)
+                        ? MapLoader.loadStage(level)
+                        : MapLoader.loadStage(stage);
+
+        if (map == null) {
+            System.err.println("스테이지 로드 실패: " + label);
+            return;
+        }
+
+        StageSimulation sim =
+                new StageSimulation();
+
+        AttemptTracker tracker =
+                new AttemptTracker(sim);
+
+        sim.setListener(tracker);
+
+        sim.load(stage, map);
+
+        Random random =
+                new Random(seed);
+
+        InputRecording.Outcome[] kinds =
+                InputRecording.Outcome.values();
+
+        int[] outcomes =
+                new int[kinds.length];
+
+        long totalTicks = 0L;
+
+        long start =
+                System.nanoTime();
+
+        for (int a = 0; a < attempts; a++) {
+
+            ScriptedInput input =
+                    (script != null)
+                            ? ScriptedInput.parse(script)
+                            : ScriptedInput.random(random, maxTicks);
+
+            sim.respawn();
+
+            runAttempt(sim, input, tracker, maxTicks);
+
+            outcomes[tracker.outcome.ordinal()]++;
+
+            totalTicks += tracker.endTick;
+        }
+
+        double seconds =
+                (System.nanoTime() - start) / 1_000_000_000.0;
+
+        System.out.printf(
+                "%s: %d attempts in %.2f s (%.0f attempts/s, %.1fx real time)%n",
+                label,
+                attempts,
+                seconds,
+                attempts / seconds,
+                totalTicks * STEP / seconds
+        );
+
+        for (InputRecording.Outcome o : kinds) {
+            System.out.printf("  %-10s %d%n", o, outcomes[o.ordinal()]);
+        }
+    }
+
+    /** 끝나면 tracker 에 결과/틱/위치가 남는다 (시간 초과면 UNFINISHED) */
+    private static void runAttempt(StageSimulation sim,
+                                   InputSource input,
+                                   AttemptTracker tracker,
+                                   double step,
+                                   long maxTicks) {
+
+        tracker.reset();
+
+        while (sim.getTick() < maxTicks) {
+
+            sim.step(step, input);
+
+            // 사망하면 시뮬레이션이 곧바로 리스폰하므로 결과는 tracker 에서 읽는다
+            if (tracker.outcome != InputRecording.Outcome.UNFINISHED) {
+                return;
+            }
+        }
+
+        tracker.finish(InputRecording.Outcome.UNFINISHED);
+    }
+
+    private static void runAttempt(StageSimulation sim,
+                                   InputSource input,
+                                   AttemptTracker tracker,
+                                   long maxTicks) {
+
+        runAttempt(sim, input, tracker, STEP, maxTicks);
+    }
+
+    // ===============================
+    // Replay
+    // ===============================
+
+    private static void runReplay(File file, int repeat) {
+
+        InputRecording rec;
+
+        try {
+            rec = InputRecording.load(file);
+        } catch (IOException e) {
+            e.printStackTrace();
+            return;
+        }
+
+        MapLoader.MapData map =
+                MapLoader.loadStage(rec.stageIndex);
+
+        if (map == null) {
+            System.err.println("스테이지 로드 실패: " + rec.stageIndex);
+            return;
+        }
+
+        StageSimulation sim =
+                new StageSimulation();
+
+        AttemptTracker tracker =
+                new AttemptTracker(sim);
+
+        sim.setListener(tracker);
+
+        sim.setSpeedMul(rec.speedMul);
+        sim.setGravityMul(rec.gravityMul);
+        sim.setInvincible(rec.invincible);
+
+        sim.load(rec.stageIndex, map);
+
+        // 기록된 마지막 틱을 조금 넘겨서 돌려 봄 (결과가 늦게 나오면 불일치)
+        long maxTicks =
+                rec.endTick + 1;
+
+        boolean allMatch = true;
+
+        long start =
+                System.nanoTime();
+
+        for (int r = 0; r < repeat; r++) {
+
+            sim.respawn();
+
+            runAttempt(sim, rec.toScriptedInput(), tracker, rec.step, maxTicks);
+
+            allMatch &= tracker.matches(rec);
+        }
+
+        double seconds =
+                (System.nanoTime() - start) / 1_000_000_000.0;
+
+        System.out.printf(
+                "recorded: stage %d %s @ tick %d (%.17g, %.17g), %d events%n",
+                rec.stageIndex,
+                rec.outcome,
+                rec.endTick,
+                rec.endX,
+                rec.endY,
+                rec.getEventCount()
+        );
+
+        System.out.printf(
+                "replayed: stage %d %s @ tick %d (%.17g, %.17g)%n",
+                rec.stageIndex,
+                tracker.outcome,
+                tracker.endTick,
+                tracker.endX,
+                tracker.endY
+        );
+
+        System.out.printf(
+                "%s  (%d runs in %.3f s, %.0f ticks/s)%n",
+                allMatch ? "MATCH" : "MISMATCH",
+                repeat,
+                seconds,
+                repeat * (double) rec.endTick / seconds
+        );
+    }
+
+    // ===============================
+    // Attempt Result
+    // ===============================
+
+    /** 도전이 처음 끝난 순간(사망 또는 별 전부 획득)의 틱과 플레이어 위치 */
+    private static final class AttemptTracker extends StageSimulation.ListenerAdapter {
+
+        private final StageSimulation sim;
+
+        InputRecording.Outcome outcome = InputRecording.Outcome.UNFINISHED;
+
+        long endTick;
+
+        double endX;
+        double endY;
+
+        AttemptTracker(StageSimulation sim) {
+            this.sim = sim;
+        }
+
+        void reset() {
+            outcome = InputRecording.Outcome.UNFINISHED;
+        }
+
+        void finish(InputRecording.Outcome o) {
+
+            outcome = o;
+
+            endTick = sim.getTick();
+
+            endX = sim.getPlayer().getX();
+            endY = sim.getPlayer().getY();
+        }
+
+        boolean matches(InputRecording rec) {
+
+            return outcome == rec.outcome
+                    && endTick == rec.endTick
+                    && Double.doubleToLongBits(endX) == Double.doubleToLongBits(rec.endX)
+                    && Double.doubleToLongBits(endY) == Double.doubleToLongBits(rec.endY);
+        }
+
+        @Override
+        public void onStarCollected(int tx, int ty) {
+
+            if (outcome == InputRecording.Outcome.UNFINISHED && sim.isAllStarsCollected()) {
+                finish(InputRecording.Outcome.CLEAR);
+            }
+        }
+
+        @Override
+        public void onPlayerDeath() {
+
+            if (outcome == InputRecording.Outcome.UNFINISHED) {
+                finish(InputRecording.Outcome.DEATH);
+            }
+        }
+    }
+}
@@ -0,0 +1,173 @@
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * EDT → 게임 스레드 입력 이벤트 큐 (단일 생산자 / 단일 소비자 링 버퍼)
+ * - 생산자는 EDT 하나(키/포커스/일시정지 패널 버튼), 소비자는 게임 루프 스레드 하나
+ * - 이벤트는 int 하나로 인코딩 (상위 8비트 종류, 하위 24비트 키 코드) → 이벤트마다 객체를 만들지 않음
+ * - 락 없이 읽기/쓰기 인덱스만 release/acquire 로 주고받는다.
+ * - 가득 차면 이번 이벤트는 버리고 개수만 센다.
+ */
+public class InputEventQueue {
+
+    // ===============================
+    // Event Types
+    // ===============================
+
+    public static final int NONE         = 0;
+
+    public static final int KEY_PRESSED  = 1;
+    public static final int KEY_RELEASED = 2;
+
+    // 포커스를 잃었을 때: 눌린 키를 모두 뗀 것으로 처리
+    public static final int RELEASE_ALL  = 3;
+
+    // 일시정지 패널의 "계속하기" 버튼
+    public static final int RESUME       = 4;
+
+    private static final int CODE_BITS =
+            24;
+
+    private static final int CODE_MASK =
+            (1 << CODE_BITS) - 1;
+
+    // ===============================
+    // Fields
+    // ===============================
+
+    private final int[] events;
+
+    private final int mask;
+
+    // 소비자가 다음에 읽을 위치 (소비자만 씀)
+    private final AtomicLong readIndex =
+            new AtomicLong();
+
+    // 생산자가 다음에 쓸 위치 (생산자만 씀)
+    private final AtomicLong writeIndex =
+            new AtomicLong();
+
+    // 생산자 전용: 마지막으로 본 readIndex (가득 찼다고 보일 때만 다시 읽음)
+    private long cachedRead =
+            0L;
+
+    // 소비자 전용: 마지막으로 본 writeIndex (비었다고 보일 때만 다시 읽음)
+    private long cachedWrite =
+            0L;
+
+    private final AtomicInteger dropped =
+            new AtomicInteger();
+
+    // ===============================
+    // Constructor
+    // ===============================
+
+    /** capacity 는 2의 거듭제곱으로 올림 */
+    public InputEventQueue(int capacity) {
+
+        int size =
+                Integer.highestOneBit(Math.max(2, capacity - 1)) << 1;
+
+        events =
+                new int[size];
+
+        mask =
+                size - 1;
+    }
+
+    // ===============================
+    // Encoding
+    // ===============================
+
+    public static int typeOf(int event) {
+
+        return event >>> CODE_BITS;
+    }
+
+    public static int codeOf(int event) {
+
+        return event & CODE_MASK;
+    }
+
+    // ===============================
+    // Producer (EDT)
+    // ===============================
+
+    public boolean offer(int type, int code) {
+
+        long w =
+                writeIndex.get();
+
+        if (w - cachedRead >= events.length) {
+
+            cachedRead =
+                    readIndex.getAcquire();
+
+            if (w - cachedRead >= events.length) {
+                dropped.incrementAndGet();
+                return false;
+            }
+        }
+
+        events[(int) w & mask] =
+                (type << CODE_BITS) | (code & CODE_MASK);
+
+        writeIndex.setRelease(w + 1);
+
+        return true;
+    }
+
+    // ===============================
+    // Consumer (Game Thread)
+    // ===============================
+
+    /** 다음 이벤트를 꺼내지 않고 본다. 비었으면 NONE */
+    public int peek() {
+
+        long r =
+                readIndex.get();
+
+        if (r >= cachedWrite) {
+
+            cachedWrite =
+                    writeIndex.getAcquire();
+
+            if (r >= cachedWrite) {
+                return NONE;
+            }
+        }
+
+        return events[(int) r & mask];
+    }
+
+    /** 다음 이벤트를 꺼낸다. 비었으면 NONE */
+    public int poll() {
+
+        int event =
+                peek();
+
+        if (event != NONE) {
+            readIndex.setRelease(readIndex.get() + 1);
+        }
+
+        return event;
+    }
+
+    /** 쌓여 있던 이벤트를 모두 버린다 (게임 스레드가 새로 시작할 때) */
+    public void skipAll() {
+
+        cachedWrite =
+                writeIndex.getAcquire();
+
+        readIndex.setRelease(cachedWrite);
+    }
+
+    // ===============================
+    // Diagnostics
+    // ===============================
+
+    public int getDroppedCount() {
+
+        return dropped.get();
+    }
+}
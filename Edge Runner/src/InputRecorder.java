@@ -0,0 +1,251 @@
+import java.io.File;
+import java.io.IOException;
+import java.util.Arrays;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+/**
+ * 실제 입력(키보드 등)을 감싸서 틱 단위로 기록하는 InputSource
+ * - 틱 시작 시 한 번 읽은 값을 그 틱 동안 그대로 돌려주므로
+ *   시뮬레이션이 본 입력과 기록된 입력이 정확히 같다.
+ * - 도전 하나(리스폰 ~ 사망/클리어)가 끝나면 InputRecording 으로 만들어 파일로 저장
+ */
+public class InputRecorder implements InputSource {
+
+    // replays 폴더에 남겨 둘 최근 기록 수
+    private static final int MAX_SAVED_FILES = 20;
+
+    private static ExecutorService saveExecutor;
+
+    private final InputSource source;
+
+    // ===============================
+    // Current Attempt
+    // ===============================
+
+    private boolean recording = false;
+
+    // 콘솔 조작 등으로 재현이 불가능해진 도전
+    private boolean tainted = false;
+
+    private int stageIndex;
+
+    private double step;
+    private double speedMul;
+    private double gravityMul;
+    private boolean invincible;
+
+    private long[] ticks = new long[256];
+    private byte[] actions = new byte[256];
+
+    private int count = 0;
+
+    // ===============================
+    // Sampled Input (이번 틱)
+    // ===============================
+
+    private long tick;
+
+    private boolean left;
+    private boolean right;
+
+    public InputRecorder(InputSource source) {
+
+        this.source = source;
+    }
+
+    // ===============================
+    // Attempt Lifecycle
+    // ===============================
+
+    public void begin(int stageIndex,
+                      double step,
+                      double speedMul,
+                      double gravityMul,
+                      boolean invincible) {
+
+        this.stageIndex = stageIndex;
+        this.step = step;
+        this.speedMul = speedMul;
+        this.gravityMul = gravityMul;
+        this.invincible = invincible;
+
+        count = 0;
+
+        left = false;
+        right = false;
+
+        recording = true;
+        tainted = false;
+    }
+
+    public void markTainted() {
+
+        tainted = true;
+    }
+
+    public boolean isRecording() {
+
+        return recording && !tainted;
+    }
+
+    /** 도전 종료. 재현 가능한 기록이 아니면 null */
+    public InputRecording finish(InputRecording.Outcome outcome, long endTick, double endX, double endY) {
+
+        boolean usable =
+                isRecording();
+
+        recording = false;
+
+        if (!usable) {
+            return null;
+        }
+
+        return new InputRecording(
+                stageIndex,
+                step,
+                speedMul,
+                gravityMul,
+                invincible,
+                outcome,
+                endTick,
+                endX,
+                endY,
+                Arrays.copyOf(ticks, count),
+                Arrays.copyOf(actions, count)
+        );
+    }
+
+    private void add(byte action) {
+
+        if (!recording) {
+            return;
+        }
+
+        if (count == ticks.length) {
+            ticks = Arrays.copyOf(ticks, count * 2);
+            actions = Arrays.copyOf(actions, count * 2);
+        }
+
+        ticks[count] = tick;
+        actions[count] = action;
+
+        count++;
+    }
+
+    // ===============================
+    // InputSource
+    // ===============================
+
+    @Override
+    public void beginTick(long tick) {
+
+        source.beginTick(tick);
+
+        this.tick = tick;
+
+        boolean l = source.isLeftHeld();
+        boolean r = source.isRightHeld();
+
+        if (l != left) {
+            add(l ? ScriptedInput.LEFT_DOWN : ScriptedInput.LEFT_UP);
+            left = l;
+        }
+
+        if (r != right) {
+            add(r ? ScriptedInput.RIGHT_DOWN : ScriptedInput.RIGHT_UP);
+            right = r;
+        }
+    }
+
+    @Override
+    public boolean isLeftHeld() {
+        return left;
+    }
+
+    @Override
+    public boolean isRightHeld() {
+        return right;
+    }
+
+    @Override
+    public boolean consumeAbilityPress() {
+
+        boolean pressed =
+                source.consumeAbilityPress();
+
+        if (pressed) {
+            add(ScriptedInput.ABILITY);
+        }
+
+        return pressed;
+    }
+
+    // ===============================
+    // Saving (background thread)
+    // ===============================
+
+    /** 게임 스레드를 막지 않도록 저장은 별도 스레드에서. 오래된 파일은 정리 */
+    public static void saveAsync(InputRecording rec, File dir) {
+
+        getSaveExecutor().execute(() -> {
+
+            if (!dir.isDirectory() && !dir.mkdirs()) {
+                System.err.println("리플레이 폴더 생성 실패: " + dir);
+                return;
+            }
+
+            File file =
+                    new File(
+                            dir,
+                            "stage" + rec.stageIndex
+                                    + "_" + System.currentTimeMillis()
+                                    + "_" + rec.outcome.name().toLowerCase()
+                                    + InputRecording.FILE_EXTENSION
+                    );
+
+            try {
+                rec.save(file);
+            } catch (IOException e) {
+                e.printStackTrace();
+                return;
+            }
+
+            pruneOldFiles(dir);
+        });
+    }
+
+    private static synchronized ExecutorService getSaveExecutor() {
+
+        if (saveExecutor == null) {
+
+            saveExecutor =
+                    Executors.newSingleThreadExecutor(r -> {
+                        Thread t = new Thread(r, "ReplaySaver");
+                        t.setDaemon(true);
+                        return t;
+                    });
+        }
+
+        return saveExecutor;
+    }
+
+    private static void pruneOldFiles(File dir) {
+
+        File[] files =
+                dir.listFiles((d, name) -> name.endsWith(InputRecording.FILE_EXTENSION));
+
+        if (files == null || files.length <= MAX_SAVED_FILES) {
+            return;
+        }
+
+        Arrays.sort(files, (a, b) -> Long.compare(a.lastModified(), b.lastModified()));
+
+        for (int i = 0; i < files.length - MAX_SAVED_FILES; i++) {
+
+            if (!files[i].delete()) {
+                System.err.println("리플레이 삭제 실패: " + files[i]);
+            }
+        }
+    }
+}
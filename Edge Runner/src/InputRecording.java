@@ -0,0 +1,248 @@
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.File;
+import java.io.FileInputStream;
+import java.io.FileOutputStream;
+import java.io.IOException;
+
+/**
+ * 스테이지 도전 한 번의 입력 기록 (.errp 바이너리)
+ *
+ * 형식 (big-endian)
+ *   int     매직 "ERRP"
+ *   short   버전
+ *   byte    스테이지 번호
+ *   byte    결과 (Outcome)
+ *   double  시뮬레이션 틱 길이(초)
+ *   double  속도 배수, double 중력 배수, boolean 무적
+ *   long    마지막 틱
+ *   double  마지막 플레이어 x, y   (재생 결과 검증용)
+ *   int     이벤트 수
+ *   이벤트  [틱 증가량 varint][동작 byte]  (동작 값은 ScriptedInput 과 같음)
+ */
+public class InputRecording {
+
+    private static final int MAGIC = 0x45525250; // "ERRP"
+
+    private static final short VERSION = 1;
+
+    public static final String FILE_EXTENSION = ".errp";
+
+    public enum Outcome {
+        UNFINISHED,
+        DEATH,
+        CLEAR
+    }
+
+    // ===============================
+    // Header
+    // ===============================
+
+    public final int stageIndex;
+
+    public final double step;
+
+    public final double speedMul;
+    public final double gravityMul;
+    public final boolean invincible;
+
+    public final Outcome outcome;
+
+    public final long endTick;
+
+    public final double endX;
+    public final double endY;
+
+    // ===============================
+    // Events (tick 오름차순)
+    // ===============================
+
+    private final long[] ticks;
+    private final byte[] actions;
+
+    public InputRecording(int stageIndex,
+                          double step,
+                          double speedMul,
+                          double gravityMul,
+                          boolean invincible,
+                          Outcome outcome,
+                          long endTick,
+                          double endX,
+                          double endY,
+                          long[] ticks,
+                          byte[] actions) {
+
+        this.stageIndex = stageIndex;
+        this.step = step;
+        this.speedMul = speedMul;
+        this.gravityMul = gravityMul;
+        this.invincible = invincible;
+        this.outcome = outcome;
+        this.endTick = endTick;
+        this.endX = endX;
+        this.endY = endY;
+        this.ticks = ticks;
+        this.actions = actions;
+    }
+
+    public int getEventCount() {
+        return ticks.length;
+    }
+
+    /** 재생용 입력 (호출할 때마다 처음 위치에서 시작하는 새 객체) */
+    public ScriptedInput toScriptedInput() {
+
+        return new ScriptedInput(ticks.clone(), actions.clone());
+    }
+
+    // ===============================
+    // Save / Load
+    // ===============================
+
+    public void save(File file) throws IOException {
+
+        try (DataOutputStream out =
+                     new DataOutputStream(
+                             new BufferedOutputStream(
+                                     new FileOutputStream(file)
+                             )
+                     )) {
+
+            out.writeInt(MAGIC);
+            out.writeShort(VERSION);
+
+            out.writeByte(stageIndex);
+            out.writeByte(outcome.ordinal());
+
+            out.writeDouble(step);
+
+            out.writeDouble(speedMul);
+            out.writeDouble(gravityMul);
+            out.writeBoolean(invincible);
+
+            out.writeLong(endTick);
+
+            out.writeDouble(endX);
+            out.writeDouble(endY);
+
+            out.writeInt(ticks.length);
+
+            long prev = 0L;
+
+            for (int i = 0; i < ticks.length; i++) {
+
+                writeVarLong(out, ticks[i] - prev);
+
+                out.writeByte(actions[i]);
+
+                prev = ticks[i];
+            }
+        }
+    }
+
+    public static InputRecording load(File file) throws IOException {
+
+        try (DataInputStream in =
+                     new DataInputStream(
+                             new BufferedInputStream(
+                                     new FileInputStream(file)
+                             )
+                     )) {
+
+            if (in.readInt() != MAGIC) {
+                throw new IOException("리플레이 파일이 아님: " + file);
+            }
+
+            short version = in.readShort();
+
+            if (version != VERSION) {
+                throw new IOException("지원하지 않는 리플레이 버전: " + version);
+            }
+
+            int stageIndex = in.readUnsignedByte();
+
+            Outcome[] outcomes = Outcome.values();
+
+            int outcomeIndex = in.readUnsignedByte();
+
+            Outcome outcome =
+                    (outcomeIndex < outcomes.length)
+                            ? outcomes[outcomeIndex]
+                            : Outcome.UNFINISHED;
+
+            double step = in.readDouble();
+
+            double speedMul = in.readDouble();
+            double gravityMul = in.readDouble();
+            boolean invincible = in.readBoolean();
+
+            long endTick = in.readLong();
+
+            double endX = in.readDouble();
+            double endY = in.readDouble();
+
+            int count = in.readInt();
+
+            if (count < 0) {
+                throw new IOException("잘못된 이벤트 수: " + count);
+            }
+
+            long[] ticks = new long[count];
+            byte[] actions = new byte[count];
+
+            long tick = 0L;
+
+            for (int i = 0; i < count; i++) {
+
+                tick += readVarLong(in);
+
+                ticks[i] = tick;
+                actions[i] = in.readByte();
+            }
+
+            return new InputRecording(
+                    stageIndex,
+                    step,
+                    speedMul,
+                    gravityMul,
+                    invincible,
+                    outcome,
+                    endTick,
+                    endX,
+                    endY,
+                    ticks,
+                    actions
+            );
+        }
+    }
+
+    private static void writeVarLong(DataOutputStream out, long v) throws IOException {
+
+        while ((v & ~0x7FL) != 0L) {
+            out.writeByte((int) ((v & 0x7F) | 0x80));
+            v >>>= 7;
+        }
+
+        out.writeByte((int) v);
+    }
+
+    private static long readVarLong(DataInputStream in) throws IOException {
+
+        long v = 0L;
+
+        for (int shift = 0; shift < 64; shift += 7) {
+
+            int b = in.readUnsignedByte();
+
+            v |= (long) (b & 0x7F) << shift;
+
+            if ((b & 0x80) == 0) {
+                return v;
+            }
+        }
+
+        throw new IOException("잘못된 varint");
+    }
+}
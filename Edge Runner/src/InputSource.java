@@ -0,0 +1,17 @@
+/**
+ * 시뮬레이션이 한 틱마다 읽어 가는 플레이어 입력
+ * - 게임에서는 키보드, 헤드리스 실행에서는 스크립트가 구현한다.
+ */
+public interface InputSource {
+
+    /** 틱 시작 시 한 번 호출 (tick 은 스테이지 시작부터 센 값) */
+    default void beginTick(long tick) {
+    }
+
+    boolean isLeftHeld();
+
+    boolean isRightHeld();
+
+    /** 능력 키 입력이 있었으면 true 를 한 번만 돌려준다 */
+    boolean consumeAbilityPress();
+}
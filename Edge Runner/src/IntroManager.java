@@ -1,25 +1,15 @@
 public class IntroManager {
 
     // ===============================
-    // Intro Script Data
+    // Intro Script Data (story/intro.txt)
     // ===============================
 
-    private static final String[] INTRO_LINES = {
+    private static final String INTRO_SCENE =
+            "intro";
 
-            "파일럿|비상 상황! 메인 동력이 완전히 꺼졌어.",
-            "시스템|경고. 핵심 모듈 정지 상태. CPU, 메모리, I/O 모두 응답 없음.",
-
-            "파일럿|나는 주 모듈로 귀환했네. 상황 파악 후 즉시 탈출을 준비해야 해.",
-            "파일럿|지금 자네가 있는 곳은 부트 로더 구역이야.",
-
-            "시스템|파일럿 요청 확인. 시스템 구조 담당자에게 복구 권한 이양.",
-
-            "플레이어|좋아. 부트 로더부터 시작해서 시스템을 복구한다.",
-
-            "시스템|각 구역을 성공적으로 복구하여 탈출 경로를 확보하십시오.",
-
-            "|ENTER 키를 눌러 부트 시퀀스를 시작하십시오."
-    };
+    // 대사 파일을 못 읽어도 ENTER 로 게임을 시작할 수 있게
+    private static final TypedScript FALLBACK_SCRIPT =
+            TypedScript.of("ENTER 키를 눌러 부트 시퀀스를 시작하십시오.");
 
     // ===============================
     // Typing Configuration
@@ -32,53 +22,33 @@ public class IntroManager {
     // Typing State
     // ===============================
 
-    private double typingTimer =
-            0.0;
-
-    private int currentLineIndex =
-            0;
-
-    private int currentCharIndex =
-            0;
-
-    // ===============================
-    // Update Logic
-    // ===============================
-
-    public void update(double deltaTime) {
-
-        if (isStoryEnd()) {
-            return;
-        }
+    // 줄 넘김은 ENTER 로만 (줄 끝 자동 넘김 없음)
+    private final Typewriter typing =
+            new Typewriter(TEXT_DISPLAY_SPEED, -1.0);
 
-        String currentLine =
-                INTRO_LINES[currentLineIndex];
+    // 화자/대사는 읽을 때 한 번만 나눠 둔다
+    private final TypedScript script;
 
-        if (isTypingInProgress(currentLine)) {
+    public IntroManager() {
 
-            typingTimer += deltaTime;
+        TypedScript scene =
+                StoryLibrary.getScene(INTRO_SCENE);
 
-            processTyping(currentLine);
-        }
-    }
-
-    private boolean isTypingInProgress(String line) {
+        this.script =
+                (scene != null)
+                        ? scene
+                        : FALLBACK_SCRIPT;
 
-        return currentCharIndex < line.length();
+        typing.start(script);
     }
 
-    private void processTyping(String line) {
-
-        while (typingTimer >= TEXT_DISPLAY_SPEED) {
+    // ===============================
+    // Update Logic
+    // ===============================
 
-            currentCharIndex++;
-            typingTimer -= TEXT_DISPLAY_SPEED;
+    public void update(double deltaTime) {
 
-            if (currentCharIndex >= line.length()) {
-                currentCharIndex = line.length();
-                break;
-            }
-        }
+        typing.update(deltaTime);
     }
 
     // ===============================
@@ -91,34 +61,13 @@ public class IntroManager {
             return false;
         }
 
-        String currentLine =
-                INTRO_LINES[currentLineIndex];
-
-        if (isTypingInProgress(currentLine)) {
-
-            finishCurrentLineTyping();
-            return true;
-
+        if (!typing.isLineComplete()) {
+            typing.completeLine();
         } else {
-
-            moveToNextLine();
-            return true;
+            typing.nextLine();
         }
-    }
 
-    private void finishCurrentLineTyping() {
-
-        currentCharIndex =
-                INTRO_LINES[currentLineIndex].length();
-
-        typingTimer = 0.0;
-    }
-
-    private void moveToNextLine() {
-
-        currentLineIndex++;
-        currentCharIndex = 0;
-        typingTimer = 0.0;
+        return true;
     }
 
     // ===============================
@@ -127,69 +76,44 @@ public class IntroManager {
 
     public boolean isStoryEnd() {
 
-        return currentLineIndex
-                >= INTRO_LINES.length;
+        return typing.isPastEnd();
     }
 
     public boolean isTypingComplete() {
 
-        if (isStoryEnd()) {
-            return true;
-        }
-
-        return currentCharIndex
-                >= INTRO_LINES[currentLineIndex].length();
+        return typing.isLineComplete();
     }
 
     // ===============================
     // Text Access
     // ===============================
 
-    public String getCurrentLine() {
-
-        if (isStoryEnd()) {
-            return "";
-        }
+    /** 렌더링용 진행 상태 (대사는 getScript() 의 공유 char[] 에서 바로 그림) */
+    public Typewriter getTyping() {
 
-        return INTRO_LINES[currentLineIndex];
+        return typing;
     }
 
     public int getCurrentCharIndex() {
 
-        return currentCharIndex;
+        return typing.getChars();
     }
 
-    // ===============================
-    // Speaker / Dialogue Parsing
-    // ===============================
-
     public String getCurrentSpeaker() {
 
-        String line =
-                getCurrentLine();
-
-        if (line.contains("|")) {
-
-            return line
-                    .substring(0, line.indexOf("|"))
-                    .trim();
+        if (isStoryEnd()) {
+            return null;
         }
 
-        return null;
+        return script.speaker(typing.getLine());
     }
 
     public String getCurrentDialogue() {
 
-        String line =
-                getCurrentLine();
-
-        if (line.contains("|")) {
-
-            return line
-                    .substring(line.indexOf("|") + 1)
-                    .trim();
+        if (isStoryEnd()) {
+            return "";
         }
 
-        return line.trim();
+        return script.line(typing.getLine());
     }
 }
\ No newline at end of file
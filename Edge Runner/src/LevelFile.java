@@ -0,0 +1,342 @@
+import java.io.File;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * 레벨 파일 (levels/이름.txt 소스 + levels/이름.erl 바이너리)
+ * - .txt : 사람이 고치는 원본. ';' 로 시작하는 줄은 주석, 나머지는 맵 한 줄씩
+ * - .erl : 컴파일된 형태. FileChannel.map 으로 열어 파싱 없이 바로 격자로 복사
+ * - .txt 가 .erl 보다 새로우면 .txt 를 읽고 .erl 을 다시 쓴다.
+ *
+ * .erl 구조 (빅엔디언)
+ *   int   magic 'ERLV'
+ *   short version, short reserved
+ *   int   width, height
+ *   int   playerStartX, playerStartY (픽셀)
+ *   int   totalStars
+ *   int   entityCount
+ *   byte  tiles[width * height]        (TileType.ordinal, y * width + x)
+ *   entity[entityCount] = byte kind, int tileX, int tileY   (kind 1: G 톱니, 2: H 톱니)
+ *
+ * 일괄 컴파일: java -cp bin LevelFile [levels]
+ */
+public class LevelFile {
+
+    // ===============================
+    // Format
+    // ===============================
+
+    public static final String SOURCE_EXT = ".txt";
+
+    public static final String BINARY_EXT = ".erl";
+
+    private static final int MAGIC =
+            ('E' << 24) | ('R' << 16) | ('L' << 8) | 'V';
+
+    private static final short VERSION =
+            1;
+
+    private static final int HEADER_BYTES =
+            4 + 2 + 2 + 4 * 6;
+
+    private static final int ENTITY_BYTES =
+            1 + 4 + 4;
+
+    private static final byte ENTITY_GEAR_DOWN = 1;
+    private static final byte ENTITY_GEAR_UP   = 2;
+
+    private static final char COMMENT =
+            ';';
+
+    // ===============================
+    // Lookup
+    // ===============================
+
+    /** dir 안에서 name 레벨을 찾는다. 둘 다 없거나 읽기 실패면 null */
+    public static MapLoader.MapTemplate load(File dir, String name) {
+
+        File source =
+                new File(dir, name + SOURCE_EXT);
+
+        File binary =
+                new File(dir, name + BINARY_EXT);
+
+        boolean binaryFresh =
+                binary.isFile()
+                        && (!source.isFile() || binary.lastModified() >= source.lastModified());
+
+        if (binaryFresh) {
+
+            MapLoader.MapTemplate t =
+                    readBinary(binary);
+
+            if (t != null) {
+                return t;
+            }
+        }
+
+        if (!source.isFile()) {
+            System.err.println("레벨 파일 없음: " + source.getPath());
+            return null;
+        }
+
+        MapLoader.MapTemplate t =
+                readText(source);
+
+        if (t != null) {
+            writeBinary(t, binary);
+        }
+
+        return t;
+    }
+
+    // ===============================
+    // Text Source
+    // ===============================
+
+    public static MapLoader.MapTemplate readText(File file) {
+
+        try {
+
+            List<String> rows =
+                    new ArrayList<>();
+
+            for (String line : Files.readAllLines(file.toPath(), StandardCharsets.UTF_8)) {
+
+                String row =
+                        line.strip();
+
+                if (row.isEmpty() || row.charAt(0) == COMMENT) {
+                    continue;
+                }
+
+                rows.add(row);
+            }
+
+            return MapLoader.loadFromLines(rows.toArray(new String[0]));
+
+        } catch (IOException | IllegalArgumentException e) {
+
+            System.err.println("레벨 소스 읽기 실패: " + file.getPath());
+            e.printStackTrace();
+
+            return null;
+        }
+    }
+
+    // ===============================
+    // Binary (memory-mapped)
+    // ===============================
+
+    public static MapLoader.MapTemplate readBinary(File file) {
+
+        try (FileChannel ch = FileChannel.open(file.toPath(), StandardOpenOption.READ)) {
+
+            long size =
+                    ch.size();
+
+            if (size < HEADER_BYTES) {
+                throw new IOException("헤더보다 작은 파일");
+            }
+
+            MappedByteBuffer buf =
+                    ch.map(FileChannel.MapMode.READ_ONLY, 0, size);
+
+            if (buf.getInt() != MAGIC) {
+                throw new IOException("레벨 파일이 아님");
+            }
+
+            short version =
+                    buf.getShort();
+
+            buf.getShort();
+
+            if (version != VERSION) {
+                throw new IOException("지원하지 않는 레벨 버전: " + version);
+            }
+
+            int width        = buf.getInt();
+            int height       = buf.getInt();
+            int playerStartX = buf.getInt();
+            int playerStartY = buf.getInt();
+            int totalStars   = buf.getInt();
+            int entityCount  = buf.getInt();
+
+            if (width <= 0 || height <= 0 || entityCount < 0
+                    || size != HEADER_BYTES + (long) width * height + (long) entityCount * ENTITY_BYTES) {
+                throw new IOException("레벨 크기 정보가 파일 길이와 맞지 않음");
+            }
+
+            TileGrid grid =
+                    new TileGrid(width, height);
+
+            grid.readCells(buf);
+
+            List<MapLoader.Point> gearDown =
+                    new ArrayList<>();
+
+            List<MapLoader.Point> gearUp =
+                    new ArrayList<>();
+
+            for (int i = 0; i < entityCount; i++) {
+
+                byte kind = buf.get();
+                int  tx   = buf.getInt();
+                int  ty   = buf.getInt();
+
+                if (kind == ENTITY_GEAR_DOWN) {
+                    gearDown.add(new MapLoader.Point(tx, ty));
+                } else if (kind == ENTITY_GEAR_UP) {
+                    gearUp.add(new MapLoader.Point(tx, ty));
+                }
+            }
+
+            return new MapLoader.MapTemplate(
+                    grid,
+                    playerStartX,
+                    playerStartY,
+                    totalStars,
+                    gearDown,
+                    gearUp
+            );
+
+        } catch (IOException | IllegalArgumentException e) {
+
+            System.err.println("레벨 바이너리 읽기 실패: " + file.getPath());
+            e.printStackTrace();
+
+            return null;
+        }
+    }
+
+    public static boolean writeBinary(MapLoader.MapTemplate t, File file) {
+
+        int entityCount =
+                t.gearDownSpawns.size() + t.gearUpSpawns.size();
+
+        ByteBuffer buf =
+                ByteBuffer.allocate(HEADER_BYTES + t.width * t.height + entityCount * ENTITY_BYTES);
+
+        buf.putInt(MAGIC);
+        buf.putShort(VERSION);
+        buf.putShort((short) 0);
+
+        buf.putInt(t.width);
+        buf.putInt(t.height);
+        buf.putInt(t.playerStartX);
+        buf.putInt(t.playerStartY);
+        buf.putInt(t.totalStars);
+        buf.putInt(entityCount);
+
+        t.getGrid().writeCells(buf);
+
+        putEntities(buf, ENTITY_GEAR_DOWN, t.gearDownSpawns);
+        putEntities(buf, ENTITY_GEAR_UP, t.gearUpSpawns);
+
+        buf.flip();
+
+        try (FileChannel ch = FileChannel.open(
+                file.toPath(),
+                StandardOpenOption.CREATE,
+                StandardOpenOption.WRITE,
+                StandardOpenOption.TRUNCATE_EXISTING
+        )) {
+
+            while (buf.hasRemaining()) {
+                ch.write(buf);
+            }
+
+            return true;
+
+        } catch (IOException e) {
+
+            // 읽기 전용 위치에서 실행해도 게임은 .txt 로 계속 돈다
+            System.err.println("레벨 바이너리 저장 실패: " + file.getPath());
+            e.printStackTrace();
+
+            return false;
+        }
+    }
+
+    private static void putEntities(ByteBuffer buf, byte kind, List<MapLoader.Point> points) {
+
+        for (MapLoader.Point p : points) {
+            buf.put(kind);
+            buf.putInt(p.x);
+            buf.putInt(p.y);
+        }
+    }
+
+    // ===============================
+    // Batch Compile
+    // ===============================
+
+    public static void main(String[] args) {
+
+        File dir =
+                new File(args.length > 0 ? args[0] : MapLoader.LEVEL_DIR);
+
+        File[] sources =
+                dir.listFiles((d, n) -> n.endsWith(SOURCE_EXT));
+
+        if (sources == null || sources.length == 0) {
+            System.err.println("레벨 소스 없음: " + dir.getPath());
+            return;
+        }
+
+        for (File source : sources) {
+
+            String name =
+                    source.getName().substring(0, source.getName().length() - SOURCE_EXT.length());
+
+            File binary =
+                    new File(dir, name + BINARY_EXT);
+
+            MapLoader.MapTemplate t =
+                    readText(source);
+
+            if (t == null || !writeBinary(t, binary)) {
+                continue;
+            }
+
+            MapLoader.MapTemplate check =
+                    null;
+
+            long bestNanos =
+                    Long.MAX_VALUE;
+
+            // 첫 회는 클래스 로딩/페이지 폴트가 섞이므로 여러 번 중 최솟값
+            for (int i = 0; i < 20; i++) {
+
+                long start =
+                        System.nanoTime();
+
+                check =
+                        readBinary(binary);
+
+                bestNanos =
+                        Math.min(bestNanos, System.nanoTime() - start);
+            }
+
+            long micros =
+                    bestNanos / 1_000;
+
+            System.out.printf(
+                    "%-12s %3dx%-3d  %5d bytes  mapped load %d us%s%n",
+                    name,
+                    t.width,
+                    t.height,
+                    binary.length(),
+                    micros,
+                    (check == null) ? "  (FAILED)" : ""
+            );
+        }
+    }
+}
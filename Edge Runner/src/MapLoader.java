@@ -1,5 +1,10 @@
+import java.io.File;
 import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
 
 public class MapLoader {
 
@@ -34,12 +39,12 @@ public class MapLoader {
     }
 
     // ===============================
-    // Map Data Container
+    // Parsed Stage Template (immutable, cached)
     // ===============================
 
-    public static class MapData {
+    public static class MapTemplate {
 
-        public final TileType[][] tiles;
+        private final TileGrid grid;
 
         public final int width;
         public final int height;
@@ -52,7 +57,7 @@ public class MapLoader {
         public final List<Point> gearDownSpawns;
         public final List<Point> gearUpSpawns;
 
-        public MapData(
+        public MapTemplate(
                 TileType[][] tiles,
                 int width,
                 int height,
@@ -62,14 +67,160 @@ public class MapLoader {
                 List<Point> gearDownSpawns,
                 List<Point> gearUpSpawns
         ) {
-            this.tiles = tiles;
-            this.width = width;
-            this.height = height;
+            this(
+                    TileGrid.fromRows(tiles, width, height),
+                    playerStartX,
+                    playerStartY,
+                    totalStars,
+                    gearDownSpawns,
+                    gearUpSpawns
+            );
+        }
+
+        public MapTemplate(
+                TileGrid grid,
+                int playerStartX,
+                int playerStartY,
+                int totalStars,
+                List<Point> gearDownSpawns,
+                List<Point> gearUpSpawns
+        ) {
+            this.grid = grid;
+            this.width = grid.width;
+            this.height = grid.height;
             this.playerStartX = playerStartX;
             this.playerStartY = playerStartY;
             this.totalStars = totalStars;
-            this.gearDownSpawns = gearDownSpawns;
-            this.gearUpSpawns = gearUpSpawns;
+            this.gearDownSpawns = Collections.unmodifiableList(gearDownSpawns);
+            this.gearUpSpawns = Collections.unmodifiableList(gearUpSpawns);
+        }
+
+        public TileType getTile(int x, int y) {
+            return grid.get(x, y);
+        }
+
+        /** 원본 격자 (읽기 전용으로만 쓸 것) */
+        public TileGrid getGrid() {
+            return grid;
+        }
+    }
+
+    // ===============================
+    // Map Data Container (per attempt)
+    // ===============================
+
+    /**
+     * 한 번의 도전(attempt) 동안 쓰는 맵
+     * - 캐시된 MapTemplate 의 격자를 복사해 두고 (칸당 1바이트)
+     * - 먹은 별/보석처럼 비운 칸만 따로 기록한다.
+     * 리스폰은 resetOverlay() 로 기록한 칸만 템플릿에서 되돌리면 된다.
+     */
+    public static class MapData {
+
+        private final MapTemplate template;
+
+        public final int width;
+        public final int height;
+
+        public final int playerStartX;
+        public final int playerStartY;
+
+        public final int totalStars;
+
+        public final List<Point> gearDownSpawns;
+        public final List<Point> gearUpSpawns;
+
+        private final TileGrid grid;
+
+        private int[] clearedCells =
+                new int[16];
+
+        private int clearedCount;
+
+        private int generation;
+
+        public MapData(MapTemplate template) {
+            this.template = template;
+            this.width = template.width;
+            this.height = template.height;
+            this.playerStartX = template.playerStartX;
+            this.playerStartY = template.playerStartY;
+            this.totalStars = template.totalStars;
+            this.gearDownSpawns = template.gearDownSpawns;
+            this.gearUpSpawns = template.gearUpSpawns;
+            this.grid = template.getGrid().copy();
+        }
+
+        public MapData(
+                TileType[][] tiles,
+                int width,
+                int height,
+                int playerStartX,
+                int playerStartY,
+                int totalStars,
+                List<Point> gearDownSpawns,
+                List<Point> gearUpSpawns
+        ) {
+            this(new MapTemplate(
+                    tiles,
+                    width,
+                    height,
+                    playerStartX,
+                    playerStartY,
+                    totalStars,
+                    gearDownSpawns,
+                    gearUpSpawns
+            ));
+        }
+
+        public TileType getTile(int x, int y) {
+            return grid.get(x, y);
+        }
+
+        /** 충돌/상호작용 루프용 격자 (flags 로 바로 검사) */
+        public TileGrid getGrid() {
+            return grid;
+        }
+
+        /** 별/보석을 먹은 칸을 비움 (템플릿은 건드리지 않음) */
+        public void clearTile(int x, int y) {
+
+            int cell = grid.index(x, y);
+
+            if (grid.isEmptyAt(cell)) {
+                return;
+            }
+
+            grid.set(x, y, TileType.EMPTY);
+
+            if (clearedCount == clearedCells.length) {
+                clearedCells = Arrays.copyOf(clearedCells, clearedCount * 2);
+            }
+
+            clearedCells[clearedCount++] = cell;
+        }
+
+        /** 리스폰: 이번 도전에서 비운 칸만 되돌림 */
+        public void resetOverlay() {
+
+            TileGrid source =
+                    template.getGrid();
+
+            for (int i = 0; i < clearedCount; i++) {
+                grid.copyCell(source, clearedCells[i]);
+            }
+
+            clearedCount = 0;
+            generation++;
+        }
+
+        public MapTemplate getTemplate() {
+            return template;
+        }
+
+        /** resetOverlay() 가 불릴 때마다 증가 (렌더 캐시 동기화용) */
+        public int getGeneration() {
+            return generation;
         }
     }
 
@@ -77,31 +228,82 @@ public class MapLoader {
     // Stage Loader Entry
     // ===============================
 
+    public static final int STAGE_COUNT = 4;
+
+    // 레벨 파일 폴더 (levels/stage0.txt ~ stage3.txt + 컴파일된 .erl)
+    public static final String LEVEL_DIR =
+            System.getProperty("edgerunner.levelDir", "levels");
+
+    private static final MapTemplate[] TEMPLATE_CACHE =
+            new MapTemplate[STAGE_COUNT];
+
+    private static final Map<String, MapTemplate> NAMED_CACHE =
+            new HashMap<>();
+
+    /** 캐시된 템플릿 위에 새 도전용 MapData 를 만든다 (파일은 스테이지당 한 번만 읽음) */
     public static MapData loadStage(int stageIndex) {
 
-        switch (stageIndex) {
-            case 0:
-                return loadFromLines(getTutorialMapLines());
+        return newAttempt(getTemplate(stageIndex));
+    }
 
-            case 1:
-                return loadFromLines(getStage1Lines());
+    /** levels/이름.erl (또는 .txt) 로 찾는다. 예: loadStage("stage2") */
+    public static MapData loadStage(String name) {
 
-            case 2:
-                return loadFromLines(getStage2Lines());
+        return newAttempt(getTemplate(name));
+    }
 
-            case 3:
-                return loadFromLines(getStage3Lines());
+    private static MapData newAttempt(MapTemplate template) {
 
-            default:
-                return null;
+        if (template == null) {
+            return null;
         }
+
+        return new MapData(template);
+    }
+
+    public static synchronized MapTemplate getTemplate(int stageIndex) {
+
+        if (stageIndex < 0 || stageIndex >= STAGE_COUNT) {
+            return null;
+        }
+
+        if (TEMPLATE_CACHE[stageIndex] == null) {
+            TEMPLATE_CACHE[stageIndex] = getTemplate(stageName(stageIndex));
+        }
+
+        return TEMPLATE_CACHE[stageIndex];
+    }
+
+    public static synchronized MapTemplate getTemplate(String name) {
+
+        MapTemplate t =
+                NAMED_CACHE.get(name);
+
+        if (t == null) {
+
+            t =
+                    LevelFile.load(new File(LEVEL_DIR), name);
+
+            // 실패는 캐시하지 않음 (파일을 고친 뒤 다시 시도할 수 있게)
+            if (t != null) {
+                NAMED_CACHE.put(name, t);
+            }
+        }
+
+        return t;
+    }
+
+    public static String stageName(int stageIndex) {
+
+        return "stage" + stageIndex;
     }
 
     // ===============================
     // Core Parsing Logic
     // ===============================
 
-    private static MapData loadFromLines(String[] lines) {
+    // LevelFile 이 .txt 소스를 읽을 때 사용 (package-private)
+    static MapTemplate loadFromLines(String[] lines) {
 
         if (lines == null || lines.length == 0) {
             return null;
@@ -110,8 +312,8 @@ public class MapLoader {
         int mapHeight = lines.length;
         int mapWidth = lines[0].length();
 
-        TileType[][] tiles =
-                new TileType[mapHeight][mapWidth];
+        TileGrid grid =
+                new TileGrid(mapWidth, mapHeight);
 
         int playerTileX = 0;
         int playerTileY = 0;
@@ -152,14 +354,12 @@ public class MapLoader {
                     playerTileY = y;
                 }
 
-                tiles[y][x] = tileType;
+                grid.set(x, y, tileType);
             }
         }
 
-        return buildMapData(
-                tiles,
-                mapWidth,
-                mapHeight,
+        return buildTemplate(
+                grid,
                 playerTileX,
                 playerTileY,
                 starCount,
@@ -235,13 +435,11 @@ public class MapLoader {
     }
 
     // ===============================
-    // MapData Construction
+    // MapTemplate Construction
     // ===============================
 
-    private static MapData buildMapData(
-            TileType[][] tiles,
-            int width,
-            int height,
+    private static MapTemplate buildTemplate(
+            TileGrid grid,
             int playerTileX,
             int playerTileY,
             int starCount,
@@ -259,10 +457,8 @@ public class MapLoader {
                 playerTileY * tileSize
                         - (int) (tileSize * 0.1);
 
-        return new MapData(
-                tiles,
-                width,
-                height,
+        return new MapTemplate(
+                grid,
                 playerPixelX,
                 playerPixelY,
                 starCount,
@@ -270,104 +466,4 @@ public class MapLoader {
                 gearUpSpawns
         );
     }
-
-    // ===============================
-    // Map Line Definitions
-    // ===============================
-
-    private static String[] getTutorialMapLines() {
-
-        List<String> rows = new ArrayList<>();
-
-        rows.add("##############################");
-        rows.add("#............................#");
-        rows.add("#............................#");
-        rows.add("#..............Y.............#");
-        rows.add("#.........KKK................#");
-        rows.add("#S######################...B.#");
-        rows.add("#............................#");
-        rows.add("#.........................B.##");
-        rows.add("#............................#");
-        rows.add("#.......................#....#");
-        rows.add("#..P.B..KK...........B.......#");
-        rows.add("##############################");
-        rows.add("##############################");
-        rows.add("##############################");
-        rows.add("##############################");
-        rows.add("##############################");
-
-        return rows.toArray(new String[0]);
-    }
-
-    private static String[] getStage1Lines() {
-
-        List<String> rows = new ArrayList<>();
-
-        rows.add("##############################");
-        rows.add("#............................#");
-        rows.add("#............................#");
-        rows.add("#............................#");
-        rows.add("#............................#");
-        rows.add("#............................#");
-        rows.add("#............................#");
-        rows.add("#......H..B....B.............#");
-        rows.add("#......#...........Y.........#");
-        rows.add("#....#.......................#");
-        rows.add("#...#........................#");
-        rows.add("#BG...P.....................S#");
-        rows.add("#######LLLLLLLLLLLLLLLLLLLL###");
-        rows.add("##############################");
-        rows.add("##############################");
-        rows.add("##############################");
-
-        return rows.toArray(new String[0]);
-    }
-
-    private static String[] getStage2Lines() {
-
-        List<String> rows = new ArrayList<>();
-
-        rows.add("##############################");
-        rows.add("#.....H..H...#...#...#...#...S");
-        rows.add("#.P..........#...#...#.....G.#");
-        rows.add("###..............#...#....#..#");
-        rows.add("#..KKK#..#...#..........#....#");
-        rows.add("#......KK..B..K.#...#.#......#");
-        rows.add("#........KKKKK....B..........#");
-        rows.add("#............................#");
-        rows.add("#............................#");
-        rows.add("#............................#");
-        rows.add("#LLLLLLLLLLLLLLLLLLLLLLLLLLLL#");
-        rows.add("##############################");
-        rows.add("##############################");
-        rows.add("##############################");
-        rows.add("##############################");
-        rows.add("##############################");
-
-        return rows.toArray(new String[0]);
-    }
-
-    private static String[] getStage3Lines() {
-
-        List<String> rows = new ArrayList<>();
-
-        rows.add("##############################");
-        rows.add("#............................#");
-        rows.add("#.......HHHHHHH..............#");
-        rows.add("#............................#");
-        rows.add("#...S.....Y......Y....B.S....#");
-        rows.add("#..################KKK####...#");
-        rows.add("#..#.......#..............#.B#");
-        rows.add("#..........#.................#");
-        rows.add("#..##......#.................#");
-        rows.add("#KK##GSSSSG...##H#........B..#");
-        rows.add("############..##.....#########");
-        rows.add("#####...SBG#...Y.......SB....#");
-        rows.add("#####..####...####H##H########");
-        rows.add("#P..B..................S.....#");
-        rows.add("##############################");
-        rows.add("##############################");
-
-        return rows.toArray(new String[0]);
-    }
 }
\ No newline at end of file
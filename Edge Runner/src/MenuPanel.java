@@ -12,6 +12,9 @@ public class MenuPanel extends JPanel implements ActionListener {
     private final GameCore.GamePanel gamePanel;
     private final JPanel mainContainer;
 
+    private final JLabel loadingLabel =
+            new JLabel(" ", SwingConstants.LEFT);
+
     // ===============================
     // Constructor
     // ===============================
@@ -24,6 +27,7 @@ public class MenuPanel extends JPanel implements ActionListener {
 
         initializePanel();
         initializeLayout();
+        initializeLoadingProgress();
     }
 
     // ===============================
@@ -153,9 +157,60 @@ public class MenuPanel extends JPanel implements ActionListener {
                 BorderLayout.EAST
         );
 
+        panel.add(
+                loadingLabel,
+                BorderLayout.WEST
+        );
+
         return panel;
     }
 
+    // -------------------------------
+    // Asset Loading Progress
+    // -------------------------------
+
+    private void initializeLoadingProgress() {
+
+        loadingLabel.setForeground(
+                new Color(200, 200, 120)
+        );
+
+        loadingLabel.setFont(
+                new Font(
+                        "SansSerif",
+                        Font.PLAIN,
+                        14
+                )
+        );
+
+        loadingLabel.setBorder(
+                BorderFactory.createEmptyBorder(
+                        0, 10, 0, 0
+                )
+        );
+
+        // 로더 스레드에서 불리므로 EDT 로 넘겨서 갱신
+        GameCore.getAssetManager()
+                .addProgressListener(
+                        (loaded, requested) ->
+                                SwingUtilities.invokeLater(
+                                        () -> updateLoadingLabel(loaded, requested)
+                                )
+                );
+    }
+
+    private void updateLoadingLabel(int loaded, int requested) {
+
+        if (requested == 0 || loaded >= requested) {
+            loadingLabel.setText(" ");
+            return;
+        }
+
+        loadingLabel.setText(
+                "리소스 로딩 중... " + loaded + " / " + requested
+        );
+    }
+
     // ===============================
     // Component Factory
     // ===============================
@@ -13,6 +13,8 @@ public class Player {
 
     private double x;
     private double y;
+    private double prevX;
+    private double prevY;
     private double width;
     private double height;
 
@@ -40,10 +42,28 @@ public class Player {
     public Player(double x, double y, double w, double h) {
         this.x = x;
         this.y = y;
+        this.prevX = x;
+        this.prevY = y;
         this.width = w;
         this.height = h;
     }
 
+    /** 리스폰: 새 객체를 만들지 않고 시작 상태로 되돌림 */
+    public void respawn(double x, double y) {
+        this.x = x;
+        this.y = y;
+        this.prevX = x;
+        this.prevY = y;
+        velX = 0;
+        velY = 0;
+        onGround = false;
+        facingRight = true;
+        form = Form.BASIC;
+        abilityReady = false;
+        dashActive = false;
+        dashTimeRemaining = 0;
+    }
+
     // ===== 이동 처리 =====
     public void applyHorizontalVelocity(double vx) {
         velX = vx;
@@ -122,13 +142,28 @@ public class Player {
         double top    = ry + COL_PAD_Y;
         double bottom = ry + height - COL_PAD_Y;
 
-        for (int y = 0; y < map.height; y++) {
-            for (int x = 0; x < map.width; x++) {
-                if (map.tiles[y][x] != MapLoader.TileType.WALL) continue;
+        // 현재 위치 ~ 목표 위치를 모두 덮는 사각형(swept AABB)에 걸친 타일만 검사
+        double sweptLeft   = Math.min(left,   x + COL_PAD_X);
+        double sweptRight  = Math.max(right,  x + width - COL_PAD_X);
+        double sweptTop    = Math.min(top,    y + COL_PAD_Y);
+        double sweptBottom = Math.max(bottom, y + height - COL_PAD_Y);
 
-                int tl = x * tileSize;
+        int minCol = Math.max(0, (int) Math.floor(sweptLeft / tileSize));
+        int maxCol = Math.min(map.width - 1, (int) Math.ceil(sweptRight / tileSize) - 1);
+        int minRow = Math.max(0, (int) Math.floor(sweptTop / tileSize));
+        int maxRow = Math.min(map.height - 1, (int) Math.ceil(sweptBottom / tileSize) - 1);
+
+        TileGrid grid = map.getGrid();
+
+        // 전체 스캔과 같은 행 우선 순서 → 마지막으로 겹친 벽이 결과를 결정하는 것도 동일
+        for (int row = minRow; row <= maxRow; row++) {
+            int rowBase = row * grid.width;
+            for (int col = minCol; col <= maxCol; col++) {
+                if ((grid.flagsAt(rowBase + col) & TileGrid.SOLID) == 0) continue;
+
+                int tl = col * tileSize;
                 int tr = tl + tileSize;
-                int tt = y * tileSize;
+                int tt = row * tileSize;
                 int tb = tt + tileSize;
 
                 if (right <= tl || left >= tr || bottom <= tt || top >= tb) continue;
@@ -143,9 +178,25 @@ public class Player {
         return horizontal ? rx : ry;
     }
 
+    // ===== 보간 렌더링 =====
+    /** 고정 스텝 한 틱을 진행하기 직전 위치를 저장 (렌더 보간용) */
+    public void savePreviousState() {
+        prevX = x;
+        prevY = y;
+    }
+
+    /** alpha(0~1) 만큼 이전 틱과 현재 틱 사이를 보간한 사각형 */
+    public Rectangle getRenderRect(double alpha) {
+        double rx = prevX + (x - prevX) * alpha;
+        double ry = prevY + (y - prevY) * alpha;
+        return new Rectangle((int)rx, (int)ry, (int)width, (int)height);
+    }
+
     // ===== Getter =====
     public double getX() { return x; }
     public double getY() { return y; }
+    public double getWidth() { return width; }
+    public double getHeight() { return height; }
     public double getVelY() { return velY; }
     public boolean isOnGround() { return onGround; }
     public Form getForm() { return form; }
@@ -0,0 +1,203 @@
+import java.util.Arrays;
+import java.util.Random;
+
+/**
+ * 틱 번호에 맞춰 미리 정해 둔 입력을 내보내는 InputSource
+ *
+ * 스크립트 형식: "틱:동작" 을 공백/쉼표로 나열
+ *   L+ / L-  왼쪽 누름 / 뗌
+ *   R+ / R-  오른쪽 누름 / 뗌
+ *   A        능력 사용
+ * 예) "0:R+ 90:A 180:R- 181:L+"
+ */
+public class ScriptedInput implements InputSource {
+
+    // ===============================
+    // Actions
+    // ===============================
+
+    public static final byte LEFT_DOWN  = 0;
+    public static final byte LEFT_UP    = 1;
+    public static final byte RIGHT_DOWN = 2;
+    public static final byte RIGHT_UP   = 3;
+    public static final byte ABILITY    = 4;
+
+    // ===============================
+    // Script Data (tick 오름차순)
+    // ===============================
+
+    private final long[] ticks;
+    private final byte[] actions;
+
+    // ===============================
+    // Playback State
+    // ===============================
+
+    private int cursor = 0;
+
+    private boolean left;
+    private boolean right;
+    private boolean abilityPending;
+
+    public ScriptedInput(long[] ticks, byte[] actions) {
+
+        if (ticks.length != actions.length) {
+            throw new IllegalArgumentException("틱/동작 개수 불일치");
+        }
+
+        this.ticks = ticks;
+        this.actions = actions;
+    }
+
+    // ===============================
+    // Parsing / Generation
+    // ===============================
+
+    public static ScriptedInput parse(String script) {
+
+        String[] tokens =
+                script.trim().isEmpty()
+                        ? new String[0]
+                        : script.trim().split("[\\s,]+");
+
+        long[] ticks = new long[tokens.length];
+        byte[] actions = new byte[tokens.length];
+
+        for (int i = 0; i < tokens.length; i++) {
+
+            int colon = tokens[i].indexOf(':');
+
+            if (colon <= 0) {
+                throw new IllegalArgumentException("잘못된 입력 스크립트: " + tokens[i]);
+            }
+
+            ticks[i] = Long.parseLong(tokens[i].substring(0, colon));
+            actions[i] = parseAction(tokens[i].substring(colon + 1));
+        }
+
+        return sorted(ticks, actions);
+    }
+
+    private static byte parseAction(String a) {
+
+        switch (a.toUpperCase()) {
+            case "L+": return LEFT_DOWN;
+            case "L-": return LEFT_UP;
+            case "R+": return RIGHT_DOWN;
+            case "R-": return RIGHT_UP;
+            case "A":  return ABILITY;
+            default:
+                throw new IllegalArgumentException("알 수 없는 동작: " + a);
+        }
+    }
+
+    /** 레벨 검증용 무작위 입력: 좌우를 바꿔 가며 누르고 가끔 능력을 쓴다 */
+    public static ScriptedInput random(Random random, long totalTicks) {
+
+        int capacity = (int) Math.max(4, totalTicks / 10);
+
+        long[] ticks = new long[capacity];
+        byte[] actions = new byte[capacity];
+
+        int n = 0;
+        long tick = 0;
+
+        boolean holdingRight = random.nextBoolean();
+
+        while (tick < totalTicks && n + 2 < capacity) {
+
+            ticks[n] = tick;
+            actions[n++] = holdingRight ? RIGHT_DOWN : LEFT_DOWN;
+
+            if (random.nextInt(3) == 0) {
+                ticks[n] = tick + random.nextInt(60);
+                actions[n++] = ABILITY;
+            }
+
+            tick += 20 + random.nextInt(160);
+
+            ticks[n] = tick;
+            actions[n++] = holdingRight ? RIGHT_UP : LEFT_UP;
+
+            holdingRight = random.nextBoolean();
+        }
+
+        return sorted(Arrays.copyOf(ticks, n), Arrays.copyOf(actions, n));
+    }
+
+    private static ScriptedInput sorted(long[] ticks, byte[] actions) {
+
+        // 삽입 정렬 (안정 정렬: 같은 틱의 동작 순서 유지)
+        for (int i = 1; i < ticks.length; i++) {
+
+            long t = ticks[i];
+            byte a = actions[i];
+
+            int j = i - 1;
+
+            while (j >= 0 && ticks[j] > t) {
+                ticks[j + 1] = ticks[j];
+                actions[j + 1] = actions[j];
+                j--;
+            }
+
+            ticks[j + 1] = t;
+            actions[j + 1] = a;
+        }
+
+        return new ScriptedInput(ticks, actions);
+    }
+
+    // ===============================
+    // Playback
+    // ===============================
+
+    /** 같은 스크립트로 처음부터 다시 재생 */
+    public void rewind() {
+
+        cursor = 0;
+        left = false;
+        right = false;
+        abilityPending = false;
+    }
+
+    @Override
+    public void beginTick(long tick) {
+
+        while (cursor < ticks.length && ticks[cursor] <= tick) {
+
+            switch (actions[cursor]) {
+                case LEFT_DOWN:  left = true;  break;
+                case LEFT_UP:    left = false; break;
+                case RIGHT_DOWN: right = true;  break;
+                case RIGHT_UP:   right = false; break;
+                case ABILITY:    abilityPending = true; break;
+                default: break;
+            }
+
+            cursor++;
+        }
+    }
+
+    @Override
+    public boolean isLeftHeld() {
+        return left;
+    }
+
+    @Override
+    public boolean isRightHeld() {
+        return right;
+    }
+
+    @Override
+    public boolean consumeAbilityPress() {
+
+        boolean pressed = abilityPending;
+        abilityPending = false;
+        return pressed;
+    }
+
+    public int size() {
+        return ticks.length;
+    }
+}
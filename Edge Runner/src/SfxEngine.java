@@ -0,0 +1,350 @@
+import javax.sound.sampled.*;
+import java.io.File;
+import java.io.IOException;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * 효과음 엔진
+ * - WAV 는 소리마다 한 번만 PCM 으로 디코딩
+ * - 같은 소리를 겹쳐 틀 수 있도록 미리 open 해 둔 Clip 을 몇 개씩 보관
+ * - 재생 요청은 큐에 넣기만 하고, 실제 Clip 조작은 전용 오디오 스레드에서 처리
+ *   → 게임 스레드는 파일 I/O 나 라인 open 때문에 멈추지 않는다.
+ */
+public class SfxEngine {
+
+    // ===============================
+    // Configuration
+    // ===============================
+
+    private static final int VOICES_PER_SOUND = 4;
+
+    private static final int QUEUE_CAPACITY = 32;
+
+    // ===============================
+    // Fields
+    // ===============================
+
+    private final BlockingQueue<String> playQueue =
+            new ArrayBlockingQueue<>(QUEUE_CAPACITY);
+
+    // 오디오 스레드에서만 접근
+    private final Map<String, SoundBank> banks =
+            new HashMap<>();
+
+    private final String[] preloadPaths;
+
+    private final Thread audioThread;
+
+    private volatile boolean running = true;
+
+    private volatile float volume;
+
+    private final AtomicInteger droppedRequests =
+            new AtomicInteger();
+
+    // 오디오 스레드가 처리한 요청 수 (재생 실패 포함)
+    private final AtomicLong handledRequests =
+            new AtomicLong();
+
+    // preloadPaths 디코딩이 끝나면 열림
+    private final CountDownLatch preloaded =
+            new CountDownLatch(1);
+
+    // ===============================
+    // Constructor
+    // ===============================
+
+    public SfxEngine(float volume, String... preloadPaths) {
+
+        this.volume = volume;
+        this.preloadPaths = preloadPaths;
+
+        audioThread =
+                new Thread(this::runAudioLoop, "SfxAudioThread");
+
+        audioThread.setDaemon(true);
+        audioThread.start();
+    }
+
+    // ===============================
+    // Public API (any thread)
+    // ===============================
+
+    /** 재생 요청만 넣고 바로 돌아간다. 큐가 가득 차면 이번 요청은 버린다. */
+    public void play(String path) {
+
+        if (!playQueue.offer(path)) {
+            droppedRequests.incrementAndGet();
+        }
+    }
+
+    public void setVolume(float volume) {
+
+        this.volume = volume;
+    }
+
+    public int getDroppedRequests() {
+
+        return droppedRequests.get();
+    }
+
+    public long getHandledRequests() {
+
+        return handledRequests.get();
+    }
+
+    /** 미리 디코딩할 소리가 모두 준비될 때까지 대기. 시간 안에 끝나면 true */
+    public boolean awaitPreloaded(long timeout, TimeUnit unit) throws InterruptedException {
+
+        return preloaded.await(timeout, unit);
+    }
+
+    public void shutdown() {
+
+        running = false;
+        audioThread.interrupt();
+    }
+
+    // ===============================
+    // Audio Thread
+    // ===============================
+
+    private void runAudioLoop() {
+
+        try {
+
+            for (String path : preloadPaths) {
+                getBank(path);
+            }
+
+        } finally {
+            preloaded.countDown();
+        }
+
+        while (running) {
+
+            String path;
+
+            try {
+                path = playQueue.take();
+            } catch (InterruptedException e) {
+                break;
+            }
+
+            SoundBank bank =
+                    getBank(path);
+
+            if (bank != null) {
+                bank.play(volume);
+            }
+
+            handledRequests.incrementAndGet();
+        }
+
+        for (SoundBank bank : banks.values()) {
+            if (bank != null) {
+                bank.close();
+            }
+        }
+    }
+
+    private SoundBank getBank(String path) {
+
+        if (banks.containsKey(path)) {
+            return banks.get(path);
+        }
+
+        SoundBank bank =
+                SoundBank.load(path, VOICES_PER_SOUND);
+
+        // 실패한 경우도 null 로 기억해서 매번 파일을 다시 찾지 않음
+        banks.put(path, bank);
+
+        return bank;
+    }
+
+    // ===============================
+    // Decoded Sound + Voice Pool
+    // ===============================
+
+    private static final class SoundBank {
+
+        private final Clip[] voices;
+
+        private final float[] appliedVolume;
+
+        private int nextVoice = 0;
+
+        private SoundBank(Clip[] voices) {
+
+            this.voices = voices;
+            this.appliedVolume = new float[voices.length];
+
+            for (int i = 0; i < appliedVolume.length; i++) {
+                appliedVolume[i] = Float.NaN;
+            }
+        }
+
+        static SoundBank load(String path, int voiceCount) {
+
+            File audioFile = new File(path);
+
+            if (!audioFile.exists()) {
+                System.err.println("사운드 파일 없음: " + path);
+                return null;
+            }
+
+            try (AudioInputStream source =
+                         AudioSystem.getAudioInputStream(audioFile)) {
+
+                AudioInputStream pcm =
+                        toPcm(source);
+
+                AudioFormat format =
+                        pcm.getFormat();
+
+                byte[] data =
+                        pcm.readAllBytes();
+
+                Clip[] voices =
+                        new Clip[voiceCount];
+
+                int opened = 0;
+
+                for (int i = 0; i < voiceCount; i++) {
+
+                    try {
+
+                        Clip clip = AudioSystem.getClip();
+                        clip.open(format, data, 0, data.length);
+
+                        voices[opened++] = clip;
+
+                    } catch (LineUnavailableException e) {
+                        break;
+                    }
+                }
+
+                if (opened == 0) {
+                    return null;
+                }
+
+                if (opened < voiceCount) {
+
+                    Clip[] trimmed = new Clip[opened];
+                    System.arraycopy(voices, 0, trimmed, 0, opened);
+                    voices = trimmed;
+                }
+
+                return new SoundBank(voices);
+
+            } catch (UnsupportedAudioFileException e) {
+                e.printStackTrace();
+            } catch (IOException e) {
+                e.printStackTrace();
+            } catch (IllegalArgumentException e) {
+                // 믹서가 없는 환경(헤드리스 등)
+                e.printStackTrace();
+            }
+
+            return null;
+        }
+
+        private static AudioInputStream toPcm(AudioInputStream source) {
+
+            AudioFormat f =
+                    source.getFormat();
+
+            if (f.getEncoding() == AudioFormat.Encoding.PCM_SIGNED
+                    || f.getEncoding() == AudioFormat.Encoding.PCM_UNSIGNED) {
+                return source;
+            }
+
+            AudioFormat target =
+                    new AudioFormat(
+                            AudioFormat.Encoding.PCM_SIGNED,
+                            f.getSampleRate(),
+                            16,
+                            f.getChannels(),
+                            f.getChannels() * 2,
+                            f.getSampleRate(),
+                            false
+                    );
+
+            return AudioSystem.getAudioInputStream(target, source);
+        }
+
+        /** 쉬고 있는 Clip 을 쓰고, 모두 재생 중이면 가장 오래된 것을 끊고 다시 씀 */
+        void play(float volume) {
+
+            int index = -1;
+
+            for (int i = 0; i < voices.length; i++) {
+
+                int candidate = (nextVoice + i) % voices.length;
+
+                if (!voices[candidate].isRunning()) {
+                    index = candidate;
+                    break;
+                }
+            }
+
+            if (index < 0) {
+                index = nextVoice;
+            }
+
+            nextVoice = (index + 1) % voices.length;
+
+            Clip clip = voices[index];
+
+            if (clip.isRunning()) {
+                clip.stop();
+            }
+
+            if (appliedVolume[index] != volume) {
+                applyGain(clip, volume);
+                appliedVolume[index] = volume;
+            }
+
+            clip.setFramePosition(0);
+            clip.start();
+        }
+
+        private static void applyGain(Clip clip, float volume) {
+
+            try {
+                if (clip.isControlSupported(
+                        FloatControl.Type.MASTER_GAIN)) {
+
+                    FloatControl gain =
+                            (FloatControl) clip.getControl(
+                                    FloatControl.Type.MASTER_GAIN
+                            );
+
+                    gain.setValue(
+                            Math.max(
+                                    gain.getMinimum(),
+                                    Math.min(gain.getMaximum(), volume)
+                            )
+                    );
+                }
+
+            } catch (IllegalArgumentException ignored) {
+            }
+        }
+
+        void close() {
+
+            for (Clip clip : voices) {
+                clip.close();
+            }
+        }
+    }
+}
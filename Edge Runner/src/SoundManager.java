@@ -1,14 +1,12 @@
-import javax.sound.sampled.*;
-import java.io.File;
-import java.io.IOException;
-
 public class SoundManager {
 
     // ===============================
     // Fields
     // ===============================
 
-    private Clip bgmClip;
+    // 곡 전환 크로스페이드 / 정지 페이드 길이
+    private static final float BGM_CROSSFADE_SECONDS = 0.8f;
+    private static final float BGM_STOP_FADE_SECONDS = 0.3f;
 
     private float currentBGMVolume = -15.0f;
     private float currentSFXVolume = -15.0f;
@@ -33,37 +31,24 @@ public class SoundManager {
             "audio/typing.wav";
 
     // ===============================
-    // Clip Loader
+    // SFX Engine
     // ===============================
 
-    private Clip loadClip(String path) {
-
-        try {
-            File audioFile = new File(path);
-
-            if (!audioFile.exists()) {
-                System.err.println("사운드 파일 없음: " + path);
-                return null;
-            }
-
-            AudioInputStream stream =
-                    AudioSystem.getAudioInputStream(audioFile);
+    // 효과음은 미리 디코딩해 두고 전용 오디오 스레드에서 재생
+    private final SfxEngine sfxEngine =
+            new SfxEngine(
+                    currentSFXVolume,
+                    SFX_JUMP,
+                    SFX_STAR_COLLECT
+            );
 
-            Clip clip = AudioSystem.getClip();
-            clip.open(stream);
-
-            return clip;
-
-        } catch (UnsupportedAudioFileException e) {
-            e.printStackTrace();
-        } catch (IOException e) {
-            e.printStackTrace();
-        } catch (LineUnavailableException e) {
-            e.printStackTrace();
-        }
+    // ===============================
+    // BGM Streamer
+    // ===============================
 
-        return null;
-    }
+    // 배경음은 전용 스레드에서 조금씩 읽어 SourceDataLine 으로 스트리밍
+    private final BgmStreamer bgmStreamer =
+            new BgmStreamer(currentBGMVolume);
 
     // ===============================
     // BGM Control
@@ -71,55 +56,30 @@ public class SoundManager {
 
     public void playBGM(String bgmPath) {
 
-        stopBGM();
+        bgmStreamer.play(bgmPath, BGM_CROSSFADE_SECONDS);
+    }
 
-        bgmClip = loadClip(bgmPath);
+    public void stopBGM() {
 
-        if (bgmClip == null) {
-            return;
-        }
+        bgmStreamer.stop(BGM_STOP_FADE_SECONDS);
+    }
 
-        setBGMVolume(currentBGMVolume);
+    /** 페이드 없이 바로 바꿔 트는 루프 (글자와 같이 시작/끝나야 하는 타자 소리용) */
+    public void playLoopNow(String path) {
 
-        bgmClip.setFramePosition(0);
-        bgmClip.loop(Clip.LOOP_CONTINUOUSLY);
+        bgmStreamer.play(path, 0f);
     }
 
-    public void stopBGM() {
-
-        if (bgmClip == null) {
-            return;
-        }
+    public void stopLoopNow() {
 
-        bgmClip.stop();
-        bgmClip.close();
-        bgmClip = null;
+        bgmStreamer.stop(0f);
     }
 
     public void setBGMVolume(float volume) {
 
         currentBGMVolume = volume;
 
-        if (bgmClip == null) {
-            return;
-        }
-
-        try {
-            FloatControl gain =
-                    (FloatControl) bgmClip.getControl(
-                            FloatControl.Type.MASTER_GAIN
-                    );
-
-            float clamped =
-                    Math.max(
-                            gain.getMinimum(),
-                            Math.min(gain.getMaximum(), volume)
-                    );
-
-            gain.setValue(clamped);
-
-        } catch (IllegalArgumentException ignored) {
-        }
+        bgmStreamer.setVolume(volume);
     }
 
     // ===============================
@@ -128,42 +88,13 @@ public class SoundManager {
 
     public void playSFX(String sfxPath) {
 
-        Clip clip = loadClip(sfxPath);
-
-        if (clip == null) {
-            return;
-        }
-
-        try {
-            if (clip.isControlSupported(
-                    FloatControl.Type.MASTER_GAIN)) {
-
-                FloatControl gain =
-                        (FloatControl) clip.getControl(
-                                FloatControl.Type.MASTER_GAIN
-                        );
-
-                gain.setValue(currentSFXVolume);
-            }
-
-        } catch (IllegalArgumentException ignored) {
-        }
-
-        clip.addLineListener(event -> {
-
-            if (event.getType() ==
-                    LineEvent.Type.STOP) {
-
-                clip.close();
-            }
-        });
-
-        clip.setFramePosition(0);
-        clip.start();
+        sfxEngine.play(sfxPath);
     }
 
     public void setSFXVolume(float volume) {
 
         currentSFXVolume = volume;
+
+        sfxEngine.setVolume(volume);
     }
 }
\ No newline at end of file
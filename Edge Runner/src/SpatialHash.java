@@ -0,0 +1,218 @@
+import java.util.Arrays;
+
+/**
+ * 움직이는 엔티티(톱니 등)용 균등 격자 공간 색인
+ * - 엔티티는 0..capacity-1 정수 id 로 다루고, 중심점이 속한 칸 하나에만 들어간다.
+ * - 칸마다 id 연결 리스트(head/next/prev 배열)라서 넣기/빼기/칸 이동이 O(1), 객체 할당 없음
+ * - move() 는 칸이 바뀔 때만 리스트를 고친다 (왕복 운동 중 대부분의 틱은 그대로)
+ * - 질의는 사각형과 겹치는 칸만 훑는다. 엔티티 크기만큼은 호출하는 쪽에서 사각형을 넓혀서 넘긴다.
+ * - 격자 밖 좌표는 가장자리 칸으로 모은다.
+ */
+public class SpatialHash {
+
+    private static final int NO_ENTRY =
+            -1;
+
+    // ===============================
+    // Query Result
+    // ===============================
+
+    /** 질의 결과 id 목록 (호출하는 쪽마다 하나씩 들고 재사용) */
+    public static class Result {
+
+        private int[] ids =
+                new int[16];
+
+        private int size =
+                0;
+
+        public int size() {
+            return size;
+        }
+
+        public int get(int i) {
+            return ids[i];
+        }
+
+        /** id 오름차순 정렬 (원래 목록 순서대로 그려야 할 때) */
+        public void sort() {
+
+            Arrays.sort(ids, 0, size);
+        }
+
+        public void clear() {
+
+            size = 0;
+        }
+
+        private void add(int id) {
+
+            if (size == ids.length) {
+                ids = Arrays.copyOf(ids, size * 2);
+            }
+
+            ids[size++] = id;
+        }
+    }
+
+    // ===============================
+    // Fields
+    // ===============================
+
+    private final int cellSize;
+
+    private final int columns;
+    private final int rows;
+
+    // 칸별 첫 id
+    private final int[] head;
+
+    // id 별 같은 칸 안의 다음/이전 id, 현재 칸 (NO_ENTRY 면 들어 있지 않음)
+    private final int[] next;
+    private final int[] prev;
+    private final int[] cellOf;
+
+    // ===============================
+    // Constructor
+    // ===============================
+
+    /** worldWidth x worldHeight 픽셀 영역을 cellSize 칸으로 나누고 id 를 capacity 개까지 받는다 */
+    public SpatialHash(int worldWidth, int worldHeight, int cellSize, int capacity) {
+
+        this.cellSize = cellSize;
+
+        this.columns =
+                Math.max(1, (worldWidth + cellSize - 1) / cellSize);
+
+        this.rows =
+                Math.max(1, (worldHeight + cellSize - 1) / cellSize);
+
+        this.head =
+                new int[columns * rows];
+
+        this.next   = new int[capacity];
+        this.prev   = new int[capacity];
+        this.cellOf = new int[capacity];
+
+        Arrays.fill(head, NO_ENTRY);
+        Arrays.fill(cellOf, NO_ENTRY);
+    }
+
+    // ===============================
+    // Update
+    // ===============================
+
+    public void insert(int id, double x, double y) {
+
+        link(id, cellAt(x, y));
+    }
+
+    /** id 의 중심점이 (x, y) 로 옮겨짐. 칸이 그대로면 아무것도 하지 않는다 */
+    public void move(int id, double x, double y) {
+
+        int cell =
+                cellAt(x, y);
+
+        if (cell == cellOf[id]) {
+            return;
+        }
+
+        unlink(id);
+
+        link(id, cell);
+    }
+
+    public void remove(int id) {
+
+        unlink(id);
+    }
+
+    private void link(int id, int cell) {
+
+        int first =
+                head[cell];
+
+        next[id] = first;
+        prev[id] = NO_ENTRY;
+
+        if (first != NO_ENTRY) {
+            prev[first] = id;
+        }
+
+        head[cell] = id;
+
+        cellOf[id] = cell;
+    }
+
+    private void unlink(int id) {
+
+        int cell =
+                cellOf[id];
+
+        if (cell == NO_ENTRY) {
+            return;
+        }
+
+        int n = next[id];
+        int p = prev[id];
+
+        if (p != NO_ENTRY) {
+            next[p] = n;
+        } else {
+            head[cell] = n;
+        }
+
+        if (n != NO_ENTRY) {
+            prev[n] = p;
+        }
+
+        cellOf[id] = NO_ENTRY;
+    }
+
+    // ===============================
+    // Query
+    // ===============================
+
+    /** 중심점이 [minX, maxX] x [minY, maxY] 와 겹치는 칸에 있는 id 를 out 에 담는다 (칸 단위라 조금 더 담길 수 있음) */
+    public void query(double minX, double minY, double maxX, double maxY, Result out) {
+
+        out.clear();
+
+        int cx0 = columnAt(minX);
+        int cx1 = columnAt(maxX);
+        int cy0 = rowAt(minY);
+        int cy1 = rowAt(maxY);
+
+        for (int cy = cy0; cy <= cy1; cy++) {
+
+            int rowBase =
+                    cy * columns;
+
+            for (int cx = cx0; cx <= cx1; cx++) {
+
+                for (int id = head[rowBase + cx]; id != NO_ENTRY; id = next[id]) {
+                    out.add(id);
+                }
+            }
+        }
+    }
+
+    private int cellAt(double x, double y) {
+
+        return rowAt(y) * columns + columnAt(x);
+    }
+
+    private int columnAt(double x) {
+
+        return clampInt((int) Math.floor(x / cellSize), 0, columns - 1);
+    }
+
+    private int rowAt(double y) {
+
+        return clampInt((int) Math.floor(y / cellSize), 0, rows - 1);
+    }
+
+    private static int clampInt(int v, int lo, int hi) {
+        return Math.max(lo, Math.min(hi, v));
+    }
+}
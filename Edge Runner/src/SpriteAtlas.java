@@ -0,0 +1,222 @@
+import java.awt.Graphics2D;
+import java.awt.RenderingHints;
+import java.awt.Transparency;
+import java.awt.image.BufferedImage;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * 작은 스프라이트(플레이어/보석/코인/타일)를 화면에 그려질 크기로 미리 줄여
+ * 화면과 같은 포맷의 이미지 한 장에 모아 두는 아틀라스
+ * - add() 로 원본과 최종 크기를 등록하고 pack() 을 한 번 부르면 그때 줄이고 배치한다.
+ * - 그릴 때는 아틀라스의 한 칸을 같은 크기로 복사만 한다 (프레임마다 리샘플링/이미지 전환 없음)
+ * - 원본이 없으면 add() 가 NONE 을 돌려주므로 호출하는 쪽은 기존 대체 그림을 그리면 된다.
+ */
+public class SpriteAtlas {
+
+    public static final int NONE = -1;
+
+    // 스프라이트가 10개 남짓이라 가로 256 한 줄~두 줄이면 충분
+    private static final int ATLAS_WIDTH = 256;
+
+    // 칸 사이 여백 (복사 범위가 정확하므로 번짐 방지용 최소한만)
+    private static final int PADDING = 1;
+
+    // ===============================
+    // Slots
+    // ===============================
+
+    private int count = 0;
+
+    private int[] slotX = new int[32];
+    private int[] slotY = new int[32];
+    private int[] slotW = new int[32];
+    private int[] slotH = new int[32];
+
+    // pack() 전까지만 들고 있는 원본
+    private List<BufferedImage> sources =
+            new ArrayList<>();
+
+    private BufferedImage image;
+
+    // ===============================
+    // Registration
+    // ===============================
+
+    /** 원본을 w x h 로 그릴 스프라이트 하나 등록. 원본이 null 이면 NONE */
+    public int add(BufferedImage src, int w, int h) {
+
+        if (src == null || sources == null) {
+            return NONE;
+        }
+
+        if (count == slotW.length) {
+
+            int grown = count * 2;
+
+            slotX = Arrays.copyOf(slotX, grown);
+            slotY = Arrays.copyOf(slotY, grown);
+            slotW = Arrays.copyOf(slotW, grown);
+            slotH = Arrays.copyOf(slotH, grown);
+        }
+
+        slotW[count] = w;
+        slotH[count] = h;
+
+        sources.add(src);
+
+        return count++;
+    }
+
+    // ===============================
+    // Packing
+    // ===============================
+
+    /** 높이 순 선반(shelf) 배치 후 한 장에 줄여 그린다. 이후로는 add 불가 */
+    public void pack() {
+
+        if (sources == null) {
+            return;
+        }
+
+        Integer[] order =
+                new Integer[count];
+
+        for (int i = 0; i < count; i++) {
+            order[i] = i;
+        }
+
+        // 키 큰 것부터 채워야 선반 낭비가 적다
+        Arrays.sort(order, (a, b) -> slotH[b] - slotH[a]);
+
+        int x = 0;
+        int y = 0;
+        int shelfH = 0;
+
+        for (int id : order) {
+
+            if (x + slotW[id] > ATLAS_WIDTH) {
+                x = 0;
+                y += shelfH + PADDING;
+                shelfH = 0;
+            }
+
+            slotX[id] = x;
+            slotY[id] = y;
+
+            x += slotW[id] + PADDING;
+            shelfH = Math.max(shelfH, slotH[id]);
+        }
+
+        image =
+                AssetManager.createCompatibleImage(
+                        ATLAS_WIDTH,
+                        Math.max(1, y + shelfH),
+                        Transparency.TRANSLUCENT
+                );
+
+        Graphics2D g =
+                image.createGraphics();
+
+        try {
+
+            for (int id = 0; id < count; id++) {
+
+                g.drawImage(
+                        scaleDown(sources.get(id), slotW[id], slotH[id]),
+                        slotX[id],
+                        slotY[id],
+                        null
+                );
+            }
+
+        } finally {
+            g.dispose();
+        }
+
+        sources = null;
+    }
+
+    /**
+     * 반씩 나눠 가며 줄인 뒤 마지막에 정확한 크기로 (한 번에 1/6 로 줄이면 픽셀이 빠져 거칠어짐)
+     * 로딩 때 한 번만 하므로 품질 위주
+     */
+    static BufferedImage scaleDown(BufferedImage src, int w, int h) {
+
+        BufferedImage cur =
+                src;
+
+        int cw = src.getWidth();
+        int ch = src.getHeight();
+
+        do {
+
+            int nw = (cw / 2 >= w) ? cw / 2 : w;
+            int nh = (ch / 2 >= h) ? ch / 2 : h;
+
+            BufferedImage next =
+                    new BufferedImage(nw, nh, BufferedImage.TYPE_INT_ARGB);
+
+            Graphics2D g =
+                    next.createGraphics();
+
+            try {
+
+                g.setRenderingHint(
+                        RenderingHints.KEY_INTERPOLATION,
+                        RenderingHints.VALUE_INTERPOLATION_BILINEAR
+                );
+
+                g.drawImage(cur, 0, 0, nw, nh, null);
+
+            } finally {
+                g.dispose();
+            }
+
+            cur = next;
+            cw = nw;
+            ch = nh;
+
+        } while (cw != w || ch != h);
+
+        return cur;
+    }
+
+    // ===============================
+    // Drawing
+    // ===============================
+
+    /** (x, y) 에 등록한 크기 그대로 복사. NONE 이거나 pack 전이면 아무것도 안 그림 */
+    public void draw(Graphics2D g, int id, int x, int y) {
+
+        if (id < 0 || image == null) {
+            return;
+        }
+
+        int sx = slotX[id];
+        int sy = slotY[id];
+        int w  = slotW[id];
+        int h  = slotH[id];
+
+        g.drawImage(
+                image,
+                x, y, x + w, y + h,
+                sx, sy, sx + w, sy + h,
+                null
+        );
+    }
+
+    public boolean isPacked() {
+        return image != null;
+    }
+
+    public int getSpriteCount() {
+        return count;
+    }
+
+    /** 디버그/벤치용 */
+    public BufferedImage getImage() {
+        return image;
+    }
+}
@@ -30,16 +30,15 @@ public class StageInfo {
     // Typing / Story State
     // -------------------------------
 
-    private double typingTimer;
-    private final double textDisplaySpeed = 0.03;
+    private static final double TEXT_DISPLAY_SPEED = 0.03;
 
-    private int currentLineIndex;
-    private int currentCharIndex;
+    // 줄이 다 나온 뒤 다음 줄로 넘어가기 전 쉬는 시간
+    private static final double LINE_PAUSE = 0.05;
 
-    private boolean storyEnd = false;
+    private final Typewriter typing =
+            new Typewriter(TEXT_DISPLAY_SPEED, LINE_PAUSE);
 
-    private String[] currentStoryLines;
-    private String fullText;
+    private boolean storyEnd = false;
 
     // ===============================
     // Constructor
@@ -154,9 +153,7 @@ public class StageInfo {
 
     public void resetTypingState() {
 
-        typingTimer = 0.0;
-        currentLineIndex = 0;
-        currentCharIndex = 0;
+        typing.reset();
 
         storyEnd = false;
     }
@@ -167,22 +164,14 @@ public class StageInfo {
 
     public void finishTypingAndCheckEnd() {
 
-        if (currentStoryLines != null && currentStoryLines.length > 0) {
-
-            int lastLineIndex = currentStoryLines.length - 1;
-
-            currentLineIndex = lastLineIndex;
-            currentCharIndex =
-                    currentStoryLines[lastLineIndex].length();
-        }
+        typing.completeAll();
 
         storyEnd = true;
     }
 
-    public void setFullText(String text) {
-
-        fullText = text;
-        currentStoryLines = text.split("\n");
+    /** 엔딩 문장 진행 상태 (대본은 GameCore 가 결과에 맞춰 setScript) */
+    public Typewriter getTyping() {
+        return typing;
     }
 
     // ===============================
@@ -220,40 +209,4 @@ public class StageInfo {
     public long getStartTimeMillis() {
         return startTimeMillis;
     }
-
-    public double getTypingTimer() {
-        return typingTimer;
-    }
-
-    public double getTextDisplaySpeed() {
-        return textDisplaySpeed;
-    }
-
-    public int getCurrentLineIndex() {
-        return currentLineIndex;
-    }
-
-    public int getCurrentCharIndex() {
-        return currentCharIndex;
-    }
-
-    public String getFullText() {
-        return fullText;
-    }
-
-    // ===============================
-    // Setters
-    // ===============================
-
-    public void setTypingTimer(double value) {
-        typingTimer = value;
-    }
-
-    public void setCurrentLineIndex(int value) {
-        currentLineIndex = value;
-    }
-
-    public void setCurrentCharIndex(int value) {
-        currentCharIndex = value;
-    }
 }
\ No newline at end of file
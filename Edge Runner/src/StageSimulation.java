@@ -0,0 +1,633 @@
+import java.awt.Rectangle;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * 스테이지 플레이 시뮬레이션 코어
+ * - 플레이어 이동/충돌, 톱니 이동, 타일 상호작용(별/보석/가시/용암)을 담당
+ * - Swing/Graphics2D 에 의존하지 않으므로 화면 없이도 step() 으로 빠르게 돌릴 수 있다.
+ * - 점수/퀴즈/사운드/힌트 같은 게임 흐름은 Listener 로 GamePanel 에 알린다.
+ */
+public class StageSimulation {
+
+    // ===============================
+    // Constants
+    // ===============================
+
+    public static final int TILE_SIZE = 32;
+
+    // 플레이어 충돌 박스 (스프라이트도 이 크기로 미리 줄여 둔다)
+    public static final double PLAYER_WIDTH  = TILE_SIZE * 0.7;
+    public static final double PLAYER_HEIGHT = TILE_SIZE * 0.9;
+
+    // 화면 높이(540) 아래로 두 칸 이상 떨어지면 낙사 (화면보다 높은 맵은 맵 바닥 기준)
+    private static final int FALL_OUT_Y = 540 + TILE_SIZE * 2;
+
+    // 플레이어가 있는 청크에서 이만큼 떨어진 청크까지만 톱니를 움직임
+    // (16칸 청크 x 2 = 화면 반폭 15칸보다 넉넉함)
+    private static final int ACTIVE_CHUNK_RADIUS = 2;
+
+    private static final int CHUNK_PX =
+            TileGrid.CHUNK_TILES * TILE_SIZE;
+
+    // 톱니 위치 색인 칸 크기 (2칸 = 64px, 톱니 지름 27px 보다 넉넉함)
+    private static final int GEAR_CELL_PX =
+            TILE_SIZE * 2;
+
+    private static final double MOVE_SPEED = 220.0;
+    private static final double GRAVITY    = 900.0;
+
+    private static final double GEAR_MOVE_TILES = 1.5;
+    private static final double GEAR_MOVE_SPEED = 1.8;
+
+    // ===============================
+    // Listener
+    // ===============================
+
+    public interface Listener {
+
+        void onStarCollected(int tx, int ty);
+
+        void onGemPicked(int tx, int ty, MapLoader.TileType gem);
+
+        /** 사망 직후, 리스폰 전에 호출 */
+        void onPlayerDeath();
+
+        /** respawn() 이 끝난 뒤 호출 (사망/재시작 모두) */
+        void onRespawn();
+    }
+
+    public static class ListenerAdapter implements Listener {
+
+        @Override
+        public void onStarCollected(int tx, int ty) {
+        }
+
+        @Override
+        public void onGemPicked(int tx, int ty, MapLoader.TileType gem) {
+        }
+
+        @Override
+        public void onPlayerDeath() {
+        }
+
+        @Override
+        public void onRespawn() {
+        }
+    }
+
+    // ===============================
+    // State
+    // ===============================
+
+    private Listener listener =
+            new ListenerAdapter();
+
+    private int stageIndex;
+
+    private MapLoader.MapData map;
+
+    private Player player;
+
+    private final List<Gear> gears =
+            new ArrayList<>();
+
+    private final List<Gear> gearsView =
+            Collections.unmodifiableList(gears);
+
+    // 톱니 중심 위치 색인 (충돌/렌더 컬링). 톱니가 움직일 때마다 칸만 옮김
+    private SpatialHash gearIndex =
+            new SpatialHash(0, 0, GEAR_CELL_PX, 0);
+
+    // 톱니 기준 위치(왕복 중심) 색인, 청크 단위. 활성 범위 톱니 찾기용
+    private SpatialHash gearHomes =
+            new SpatialHash(0, 0, CHUNK_PX, 0);
+
+    // 지난 틱에 움직인 톱니 (다음 snapshot 대상)
+    private final SpatialHash.Result activeGears =
+            new SpatialHash.Result();
+
+    private final SpatialHash.Result gearHits =
+            new SpatialHash.Result();
+
+    private int totalStars     = 0;
+    private int collectedStars = 0;
+
+    private long tick = 0L;
+
+    // 리스폰 후 흐른 시간 (톱니 위치 계산용)
+    private double gearTime = 0.0;
+
+    private int fallOutY = FALL_OUT_Y;
+
+    // ===============================
+    // Tuning (debug console)
+    // ===============================
+
+    private boolean invincible = false;
+
+    private double speedMul   = 1.0;
+    private double gravityMul = 1.0;
+
+    // ===============================
+    // Stage Lifecycle
+    // ===============================
+
+    public void setListener(Listener listener) {
+
+        this.listener =
+                (listener != null)
+                        ? listener
+                        : new ListenerAdapter();
+    }
+
+    /** 새 스테이지 시작 (리스너 onRespawn 은 호출하지 않음) */
+    public void load(int stageIndex, MapLoader.MapData map) {
+
+        this.stageIndex = stageIndex;
+        this.map = map;
+
+        totalStars = map.totalStars;
+        collectedStars = 0;
+
+        tick = 0L;
+
+        gearTime = 0.0;
+
+        fallOutY =
+                Math.max(FALL_OUT_Y, (map.height + 2) * TILE_SIZE);
+
+        if (player == null) {
+
+            player =
+                    new Player(
+                            map.playerStartX,
+                            map.playerStartY,
+                            PLAYER_WIDTH,
+                            PLAYER_HEIGHT
+                    );
+
+        } else {
+
+            player.respawn(
+                    map.playerStartX,
+                    map.playerStartY
+            );
+        }
+
+        rebuildGearsFromMap();
+    }
+
+    /** 같은 스테이지 재도전: 맵 overlay 만 지우고 플레이어/톱니를 처음 상태로 */
+    public void respawn() {
+
+        if (map == null) {
+            return;
+        }
+
+        map.resetOverlay();
+
+        collectedStars = 0;
+
+        tick = 0L;
+
+        gearTime = 0.0;
+
+        player.respawn(
+                map.playerStartX,
+                map.playerStartY
+        );
+
+        for (int i = 0; i < gears.size(); i++) {
+
+            Gear gear =
+                    gears.get(i);
+
+            gear.reset();
+
+            moveInIndex(i, gear);
+        }
+
+        listener.onRespawn();
+    }
+
+    private void rebuildGearsFromMap() {
+
+        gears.clear();
+
+        activeGears.clear();
+
+        double ampPx =
+                TILE_SIZE * GEAR_MOVE_TILES;
+
+        for (MapLoader.Point p : map.gearDownSpawns) {
+
+            if (p == null) continue;
+
+            gears.add(
+                    Gear.horizontal(
+                            p.x * TILE_SIZE,
+                            p.y * TILE_SIZE,
+                            ampPx,
+                            GEAR_MOVE_SPEED
+                    )
+            );
+        }
+
+        for (MapLoader.Point p : map.gearUpSpawns) {
+
+            if (p == null) continue;
+
+            gears.add(
+                    Gear.vertical(
+                            p.x * TILE_SIZE,
+                            p.y * TILE_SIZE,
+                            ampPx,
+                            GEAR_MOVE_SPEED
+                    )
+            );
+        }
+
+        int worldW = map.width * TILE_SIZE;
+        int worldH = map.height * TILE_SIZE;
+
+        gearIndex =
+                new SpatialHash(worldW, worldH, GEAR_CELL_PX, gears.size());
+
+        gearHomes =
+                new SpatialHash(worldW, worldH, CHUNK_PX, gears.size());
+
+        for (int i = 0; i < gears.size(); i++) {
+
+            Gear gear =
+                    gears.get(i);
+
+            gearHomes.insert(i, gear.baseX, gear.baseY);
+
+            moveInIndex(i, gear);
+        }
+    }
+
+    private void moveInIndex(int id, Gear gear) {
+
+        gearIndex.move(
+                id,
+                gear.x + TILE_SIZE / 2.0,
+                gear.y + TILE_SIZE / 2.0
+        );
+    }
+
+    // ===============================
+    // Tick
+    // ===============================
+
+    /** 렌더 보간용으로 이번 틱 직전 위치를 저장 */
+    public void snapshot() {
+
+        if (player != null) {
+            player.savePreviousState();
+        }
+
+        // 활성 범위 밖 톱니는 멈춰 있으므로 지난 틱에 움직인 것만
+        for (int i = 0; i < activeGears.size(); i++) {
+            gears.get(activeGears.get(i)).savePreviousState();
+        }
+    }
+
+    /**
+     * 한 틱 진행
+     * input 이 null 이면 플레이어는 움직이지 않는다 (디버그 콘솔 열림 등).
+     */
+    public void step(double dt, InputSource input) {
+
+        if (map == null || player == null) {
+            return;
+        }
+
+        tickGears(dt);
+
+        if (input != null) {
+
+            input.beginTick(tick);
+
+            applyPlayerInput(input, dt);
+        }
+
+        tick++;
+
+        if (isPlayerFallenOut()) {
+            killPlayer();
+            return;
+        }
+
+        handleTileInteractions();
+    }
+
+    /** 플레이어 주변 활성 청크 안의 톱니만 움직인다 (나머지는 다시 들어올 때 시간으로 맞춤) */
+    private void tickGears(double dt) {
+
+        double lastGearTime =
+                gearTime;
+
+        gearTime += dt;
+
+        TileGrid grid =
+                map.getGrid();
+
+        int pcx = (int) Math.floor(player.getX() / CHUNK_PX);
+        int pcy = (int) Math.floor(player.getY() / CHUNK_PX);
+
+        // 맵 밖 청크는 색인이 가장자리로 모으므로 범위를 맵 안으로 먼저 자름
+        int cx0 = Math.max(pcx - ACTIVE_CHUNK_RADIUS, 0);
+        int cx1 = Math.min(pcx + ACTIVE_CHUNK_RADIUS, grid.chunkColumns() - 1);
+        int cy0 = Math.max(pcy - ACTIVE_CHUNK_RADIUS, 0);
+        int cy1 = Math.min(pcy + ACTIVE_CHUNK_RADIUS, grid.chunkRows() - 1);
+
+        if (cx0 > cx1 || cy0 > cy1) {
+            activeGears.clear();
+            return;
+        }
+
+        gearHomes.query(
+                cx0 * CHUNK_PX,
+                cy0 * CHUNK_PX,
+                (cx1 + 1) * CHUNK_PX - 1,
+                (cy1 + 1) * CHUNK_PX - 1,
+                activeGears
+        );
+
+        for (int i = 0; i < activeGears.size(); i++) {
+
+            int id =
+                    activeGears.get(i);
+
+            Gear gear =
+                    gears.get(id);
+
+            // 쉬다가 다시 들어온 톱니는 보간 없이 현재 위치로 맞춤
+            boolean resumed =
+                    gear.t != lastGearTime;
+
+            gear.advanceTo(gearTime);
+
+            if (resumed) {
+                gear.savePreviousState();
+            }
+
+            moveInIndex(id, gear);
+        }
+    }
+
+    private void applyPlayerInput(InputSource input, double dt) {
+
+        if (input.consumeAbilityPress()) {
+            player.useAbility();
+        }
+
+        double moveSpeed =
+                MOVE_SPEED * speedMul;
+
+        double gravity =
+                GRAVITY * gravityMul;
+
+        double vx =
+                computeMoveVx(input, moveSpeed);
+
+        if (!player.isDashing()) {
+            player.applyHorizontalVelocity(vx);
+        }
+
+        player.applyGravity(gravity, dt);
+
+        player.moveAndCollide(map, dt, TILE_SIZE);
+    }
+
+    private double computeMoveVx(InputSource input, double moveSpeed) {
+
+        double vx = 0.0;
+
+        boolean left  = input.isLeftHeld();
+        boolean right = input.isRightHeld();
+
+        if (left && !right) {
+            vx = -moveSpeed;
+        } else if (right && !left) {
+            vx = moveSpeed;
+        }
+
+        return vx;
+    }
+
+    private boolean isPlayerFallenOut() {
+
+        return player.getY() > fallOutY;
+    }
+
+    // ===============================
+    // Tile Interaction
+    // ===============================
+
+    private void handleTileInteractions() {
+
+        Rectangle pr =
+                player.getRect();
+
+        int leftTile =
+                clampInt(pr.x / TILE_SIZE, 0, map.width - 1);
+
+        int rightTile =
+                clampInt((pr.x + pr.width) / TILE_SIZE, 0, map.width - 1);
+
+        int topTile =
+                clampInt(pr.y / TILE_SIZE, 0, map.height - 1);
+
+        int bottomTile =
+                clampInt((pr.y + pr.height) / TILE_SIZE, 0, map.height - 1);
+
+        TileGrid grid =
+                map.getGrid();
+
+        for (int ty = topTile; ty <= bottomTile; ty++) {
+
+            int rowBase =
+                    ty * grid.width;
+
+            for (int tx = leftTile; tx <= rightTile; tx++) {
+
+                // 대부분의 칸(빈칸/벽/문)은 비트 검사 한 번으로 넘어감
+                if ((grid.flagsAt(rowBase + tx) & (TileGrid.HAZARD | TileGrid.PICKUP)) == 0) {
+                    continue;
+                }
+
+                boolean stop =
+                        applyTileEffect(tx, ty, grid.getAt(rowBase + tx));
+
+                if (stop) {
+                    return;
+                }
+            }
+        }
+
+        if (!invincible) {
+            if (checkGearCollision(pr)) {
+                killPlayer();
+            }
+        }
+    }
+
+    private boolean checkGearCollision(Rectangle pr) {
+
+        // 색인은 톱니 중심 기준이므로 톱니 반지름만큼 넓혀서 주변 칸만 본다
+        queryGears(pr.x, pr.y, pr.x + pr.width, pr.y + pr.height, gearHits);
+
+        for (int i = 0; i < gearHits.size(); i++) {
+
+            if (gears.get(gearHits.get(i)).collidesWith(pr)) {
+                return true;
+            }
+        }
+
+        return false;
+    }
+
+    /**
+     * 월드 픽셀 사각형과 닿을 수 있는 톱니 id (gears 목록 인덱스)
+     * 칸 단위라 조금 더 담길 수 있으므로 정확한 판정은 호출하는 쪽에서 한다.
+     */
+    public void queryGears(double minX, double minY, double maxX, double maxY, SpatialHash.Result out) {
+
+        double reach =
+                TILE_SIZE / 2.0;
+
+        gearIndex.query(
+                minX - reach,
+                minY - reach,
+                maxX + reach,
+                maxY + reach,
+                out
+        );
+    }
+
+    private boolean applyTileEffect(int tx, int ty, MapLoader.TileType type) {
+
+        if (type == null) {
+            return false;
+        }
+
+        if (type == MapLoader.TileType.SPIKE || type == MapLoader.TileType.LAVA) {
+
+            if (!invincible) {
+                killPlayer();
+            }
+
+            return true;
+        }
+
+        if (type == MapLoader.TileType.STAR) {
+
+            map.clearTile(tx, ty);
+
+            collectedStars++;
+
+            listener.onStarCollected(tx, ty);
+
+            return false;
+        }
+
+        if (type == MapLoader.TileType.GEM_YELLOW) {
+
+            map.clearTile(tx, ty);
+
+            player.setFormYellow();
+
+            listener.onGemPicked(tx, ty, type);
+
+            return false;
+        }
+
+        if (type == MapLoader.TileType.GEM_BLUE) {
+
+            map.clearTile(tx, ty);
+
+            player.setFormBlue();
+
+            listener.onGemPicked(tx, ty, type);
+
+            return false;
+        }
+
+        return false;
+    }
+
+    private void killPlayer() {
+
+        listener.onPlayerDeath();
+
+        respawn();
+    }
+
+    private static int clampInt(int v, int lo, int hi) {
+        return Math.max(lo, Math.min(hi, v));
+    }
+
+    // ===============================
+    // Getters / Tuning
+    // ===============================
+
+    public int getStageIndex() {
+        return stageIndex;
+    }
+
+    public MapLoader.MapData getMap() {
+        return map;
+    }
+
+    public Player getPlayer() {
+        return player;
+    }
+
+    public List<Gear> getGears() {
+        return gearsView;
+    }
+
+    public int getTotalStars() {
+        return totalStars;
+    }
+
+    public int getCollectedStars() {
+        return collectedStars;
+    }
+
+    public boolean isAllStarsCollected() {
+        return collectedStars >= totalStars;
+    }
+
+    public long getTick() {
+        return tick;
+    }
+
+    public boolean isInvincible() {
+        return invincible;
+    }
+
+    public void setInvincible(boolean invincible) {
+        this.invincible = invincible;
+    }
+
+    public double getSpeedMul() {
+        return speedMul;
+    }
+
+    public void setSpeedMul(double speedMul) {
+        this.speedMul = speedMul;
+    }
+
+    public double getGravityMul() {
+        return gravityMul;
+    }
+
+    public void setGravityMul(double gravityMul) {
+        this.gravityMul = gravityMul;
+    }
+}
@@ -1,33 +1,41 @@
 public class StageStory {
 
     // ===============================
-    // Ending Title
+    // Story Scenes (story/*.txt, StoryLibrary 가 필요할 때 읽음)
     // ===============================
 
-    public static String getEndingTitle(int stageIndex, boolean good) {
+    private static final int STAGE_COUNT = 4;
 
-        if (stageIndex == 0) {
-            return good
-                    ? "부트 시퀀스 준비 완료"
-                    : "부트 시퀀스 오류";
-        }
+    // [stageIndex][good ? 1 : 0] → 장면 이름 (프레임마다 문자열을 만들지 않도록 미리 둠)
+    private static final String[][] ENDING_SCENES = {
 
-        if (stageIndex == 1) {
-            return good
-                    ? "CPU 코어 정렬 성공"
-                    : "코어 불안정";
-        }
+            {"ending0_bad", "ending0_good"},
+            {"ending1_bad", "ending1_good"},
+            {"ending2_bad", "ending2_good"},
+            {"ending3_bad", "ending3_good"}
+    };
 
-        if (stageIndex == 2) {
-            return good
-                    ? "메모리·캐시 정렬 완료"
-                    : "메모리 접근 오류";
-        }
+    private static final String EPILOGUE_GOOD_SCENE =
+            "epilogue_good";
+
+    private static final String EPILOGUE_BAD_SCENE =
+            "epilogue_bad";
 
-        if (stageIndex == 3) {
-            return good
-                    ? "GAME CLEAR"
-                    : "GAME OVER";
+    // 파일이 없거나 준비되지 않은 스테이지용
+    private static final TypedScript FALLBACK_ENDING =
+            TypedScript.of("아직 준비되지 않은 엔딩입니다.");
+
+    // ===============================
+    // Ending Title
+    // ===============================
+
+    public static String getEndingTitle(int stageIndex, boolean good) {
+
+        TypedScript scene =
+                loadEnding(stageIndex, good);
+
+        if (scene != null && scene.title() != null) {
+            return scene.title();
         }
 
         return good
@@ -36,129 +44,36 @@ public class StageStory {
     }
 
     // ===============================
-    // Ending Story Lines
+    // Ending Scripts
     // ===============================
 
-    public static String[] getEndingLines(int stageIndex, boolean good) {
-
-        switch (stageIndex) {
-
-            // -------------------------------
-            // Stage 0 : Tutorial / Boot Loader
-            // -------------------------------
-
-            case 0:
-
-                if (good) {
-                    return new String[]{
-
-                            "기초 조작과 점프 타이밍을 성공적으로 익혔습니다.",
-                            "이 구역은 우주선의 부트 로더와 같은 역할을 합니다.",
-                            "안내를 맡았던 파일럿은 우주선으로 먼저 귀환합니다.",
-                            "당신은 남은 코어와 모듈을 정비하기 위해 이 행성에 남습니다."
-                    };
-                } else {
-                    return new String[]{
-
-                            "부트 시퀀스 테스트에서 오류가 발생했습니다.",
-                            "입력과 타이밍을 제대로 맞추지 못했습니다.",
-                            "파일럿은 안전을 이유로 우주선으로 먼저 돌아갑니다.",
-                            "당신은 이곳에서 다시 기초를 다질 필요가 있습니다."
-                    };
-                }
-
-            // -------------------------------
-            // Stage 1 : CPU Core Area
-            // -------------------------------
-
-            case 1:
-
-                if (good) {
-                    return new String[]{
-
-                            "우주선 내부의 CPU 코어 클러스터를 안정화했습니다.",
-                            "뒤엉켜 있던 파이프라인과 클럭 신호가 다시 정렬됩니다.",
-                            "연산 모듈이 정상적으로 동작하기 시작하면서,",
-                            "파일럿은 통신으로 말합니다.",
-                            "\"이제 연산은 문제없어. 남은 건 메모리와 방어 시스템이야.\""
-                    };
-                } else {
-                    return new String[]{
-
-                            "여전히 몇 개의 코어가 제때 클럭을 받지 못하고 있습니다.",
-                            "파이프라인이 꼬인 탓에 연산 결과가 들쭉날쭉합니다.",
-                            "이 상태로는 우주선의 시뮬레이션조차 믿기 어렵습니다.",
-                            "파일럿은 낮은 목소리로 중얼거립니다.",
-                            "\"코어부터 다시 손봐야겠군….\""
-                    };
-                }
-
-            // -------------------------------
-            // Stage 2 : Memory / Cache Area
-            // -------------------------------
-
-            case 2:
-
-                if (good) {
-                    return new String[]{
-
-                            "메모리 계층 구조를 다시 설계했습니다.",
-                            "느리게 늘어지던 경로는 정리되고, 캐시 라인이 재정렬됩니다.",
-                            "버스 병목 현상이 사라지며 데이터가 매끄럽게 흐릅니다.",
-                            "파일럿은 웃으며 말합니다.",
-                            "\"이제 방어 시스템만 꺼내리면, 정말로 떠날 수 있겠어.\""
-                    };
-                } else {
-                    return new String[]{
-
-                            "메모리 접근 도중 치명적인 캐시 미스가 반복되고 있습니다.",
-                            "일부 주소는 여전히 잘못된 데이터로 응답합니다.",
-                            "버스는 과부하 상태에 가깝고, 지연 시간은 끝없이 늘어납니다.",
-                            "파일럿은 모니터를 보며 한숨을 내쉽니다.",
-                            "\"이대로 이륙했다간, 중간에 멈춰 버릴지도 몰라.\""
-                    };
-                }
-
-            // -------------------------------
-            // Stage 3 : I/O & Defense System
-            // -------------------------------
-
-            case 3:
-
-                if (good) {
-                    return new String[]{
-
-                            "외부 I/O 모듈과 대공 방어 시스템을 완전히 제어했습니다.",
-                            "인터럽트는 정리되고, 위협이 되는 신호는 모두 차단되었습니다.",
-                            "CPU, 메모리, I/O까지 모든 구조가 한 번의 시퀀스로 맞물립니다.",
-                            "우주선은 거대한 굉음을 내며 부트 시퀀스를 완료합니다.",
-                            "확장 모듈 덕분에 내부 좌석도 넉넉해졌습니다.",
-                            "파일럿은 웃으며 말합니다.",
-                            "\"이번엔… 너도 같이 가는 거야.\""
-                    };
-                } else {
-                    return new String[]{
-
-                            "I/O 모듈과 대공 방어 시스템은 완전히 정리되지 못했습니다.",
-                            "CPU와 메모리는 간신히 버티고 있지만,",
-                            "우주선 내부 공간은 여전히 부족하고 위험은 남아 있습니다.",
-                            "파일럿은 마지막까지 당신을 바라보다가, 조용히 고개를 숙입니다.",
-                            "그러나 먼저 입을 연 쪽은 당신이었습니다.",
-                            "\"…괜찮아. 여기 구조를 아는 사람은 나뿐이야.",
-                            " 다음에 올 누군가를 위해, 시스템을 지켜둘게.\"",
-                            "우주선은 이륙하고, 마지막 남은 좌석은",
-                            "당신이 아닌 다른 동료가 차지합니다."
-                    };
-                }
-        }
+    public static TypedScript getEndingScript(int stageIndex, boolean good) {
+
+        TypedScript scene =
+                loadEnding(stageIndex, good);
+
+        return (scene != null)
+                ? scene
+                : FALLBACK_ENDING;
+    }
 
-        // -------------------------------
-        // Fallback
-        // -------------------------------
+    /** 마지막 스테이지 엔딩 다음 검은 화면에 나오는 두 줄 */
+    public static TypedScript getFinalEpilogue(boolean good) {
 
-        return new String[]{
+        TypedScript scene =
+                StoryLibrary.getScene(good ? EPILOGUE_GOOD_SCENE : EPILOGUE_BAD_SCENE);
+
+        return (scene != null)
+                ? scene
+                : TypedScript.EMPTY;
+    }
+
+    private static TypedScript loadEnding(int stageIndex, boolean good) {
+
+        if (stageIndex < 0 || stageIndex >= STAGE_COUNT) {
+            return null;
+        }
 
-                "아직 준비되지 않은 엔딩입니다."
-        };
+        return StoryLibrary.getScene(ENDING_SCENES[stageIndex][good ? 1 : 0]);
     }
 }
\ No newline at end of file
@@ -0,0 +1,153 @@
+import java.io.File;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * 대사/컷신 파일 (story/장면이름.txt, UTF-8)
+ * - 장면은 처음 필요할 때 읽어 TypedScript 로 만들어 두고, 최근에 쓴 MAX_CACHED_SCENES 개만 들고 있는다.
+ *   → 대사가 늘어나거나 언어가 추가돼도 시작할 때 읽는 양과 메모리는 그대로
+ * - edgerunner.storyLang 을 주면 story/언어/장면이름.txt 를 먼저 찾고, 없으면 기본 폴더 파일을 쓴다.
+ * - 없거나 읽지 못한 장면도 이름을 기억해 둔다 → 엔딩 화면이 매 틱/프레임 불러도 디스크 확인과 로그는 한 번
+ *
+ * 파일 형식
+ *   ; 로 시작하는 줄은 주석, 빈 줄은 무시
+ *   @title 제목          엔딩 화면 제목 (선택)
+ *   화자|대사            '|' 가 없으면 화자 없는 줄 (줄 그대로)
+ */
+public class StoryLibrary {
+
+    // ===============================
+    // Configuration
+    // ===============================
+
+    public static final String STORY_DIR =
+            System.getProperty("edgerunner.storyDir", "story");
+
+    // 비어 있으면 기본 폴더만
+    public static final String STORY_LANG =
+            System.getProperty("edgerunner.storyLang", "");
+
+    public static final String SOURCE_EXT = ".txt";
+
+    // 인트로 1 + 엔딩 2 + 에필로그 1 이 한 번에 쓰이는 최대치라 넉넉함
+    private static final int MAX_CACHED_SCENES = 8;
+
+    private static final char COMMENT =
+            ';';
+
+    private static final String TITLE_DIRECTIVE =
+            "@title ";
+
+    // 접근 순서 LinkedHashMap: 가장 오래 안 쓴 장면부터 밀려남
+    private static final Map<String, TypedScript> CACHE =
+            new LinkedHashMap<String, TypedScript>(16, 0.75f, true) {
+
+                @Override
+                protected boolean removeEldestEntry(Map.Entry<String, TypedScript> eldest) {
+                    return size() > MAX_CACHED_SCENES;
+                }
+            };
+
+    // 없거나 읽기 실패한 장면 이름 (장면 수만큼만 쌓이므로 따로 비우지 않음)
+    private static final Set<String> MISSING =
+            new HashSet<>();
+
+    // ===============================
+    // Lookup
+    // ===============================
+
+    /** 장면 하나. 파일이 없거나 읽기 실패면 null (실패도 기억해서 다시 찾지 않음) */
+    public static synchronized TypedScript getScene(String name) {
+
+        TypedScript scene =
+                CACHE.get(name);
+
+        if (scene == null && !MISSING.contains(name)) {
+
+            scene =
+                    load(name);
+
+            if (scene != null) {
+                CACHE.put(name, scene);
+            } else {
+                MISSING.add(name);
+            }
+        }
+
+        return scene;
+    }
+
+    public static synchronized int getCachedSceneCount() {
+
+        return CACHE.size();
+    }
+
+    private static TypedScript load(String name) {
+
+        if (!STORY_LANG.isEmpty()) {
+
+            File localized =
+                    new File(new File(STORY_DIR, STORY_LANG), name + SOURCE_EXT);
+
+            if (localized.isFile()) {
+                return readText(localized);
+            }
+        }
+
+        File source =
+                new File(STORY_DIR, name + SOURCE_EXT);
+
+        if (!source.isFile()) {
+            System.err.println("대사 파일 없음: " + source.getPath());
+            return null;
+        }
+
+        return readText(source);
+    }
+
+    // ===============================
+    // Text Source
+    // ===============================
+
+    public static TypedScript readText(File file) {
+
+        try {
+
+            String title =
+                    null;
+
+            List<String> rows =
+                    new ArrayList<>();
+
+            for (String line : Files.readAllLines(file.toPath(), StandardCharsets.UTF_8)) {
+
+                if (line.isBlank() || line.charAt(0) == COMMENT) {
+                    continue;
+                }
+
+                if (line.startsWith(TITLE_DIRECTIVE)) {
+                    title = line.substring(TITLE_DIRECTIVE.length()).strip();
+                    continue;
+                }
+
+                rows.add(line.stripTrailing());
+            }
+
+            return TypedScript.dialogue(title, rows);
+
+        } catch (IOException e) {
+
+            System.err.println("대사 파일 읽기 실패: " + file.getPath());
+            e.printStackTrace();
+
+            return null;
+        }
+    }
+}
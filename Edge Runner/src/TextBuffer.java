@@ -0,0 +1,166 @@
+/**
+ * 매 프레임 내용이 바뀌는 HUD 문자열용 재사용 char 버퍼
+ * - String.format / 문자열 연결 대신 숫자를 직접 char 로 적어 넣는다.
+ * - 용량이 모자랄 때만 배열을 늘리므로 평소에는 할당이 없다.
+ * - 그리기는 TextStyle.draw(g, buffer, ...) → Graphics2D.drawChars
+ */
+public class TextBuffer {
+
+    private static final long[] POW10 = {
+            1L, 10L, 100L, 1_000L, 10_000L, 100_000L, 1_000_000L
+    };
+
+    private char[] chars;
+
+    private int length = 0;
+
+    public TextBuffer(int capacity) {
+
+        this.chars = new char[Math.max(16, capacity)];
+    }
+
+    // ===============================
+    // Building
+    // ===============================
+
+    public TextBuffer clear() {
+
+        length = 0;
+
+        return this;
+    }
+
+    public TextBuffer append(char c) {
+
+        ensureCapacity(1);
+
+        chars[length++] = c;
+
+        return this;
+    }
+
+    public TextBuffer append(String s) {
+
+        return append(s, 0, s.length());
+    }
+
+    /** s 의 [start, end) 구간만 붙인다 (substring 없이 타이핑 효과용) */
+    public TextBuffer append(String s, int start, int end) {
+
+        int n =
+                end - start;
+
+        ensureCapacity(n);
+
+        s.getChars(start, end, chars, length);
+
+        length += n;
+
+        return this;
+    }
+
+    public TextBuffer append(long v) {
+
+        if (v == Long.MIN_VALUE) {
+            return append("-9223372036854775808");
+        }
+
+        if (v < 0) {
+            append('-');
+            v = -v;
+        }
+
+        int digits = 1;
+
+        for (long t = v; t >= 10; t /= 10) {
+            digits++;
+        }
+
+        ensureCapacity(digits);
+
+        for (int i = length + digits - 1; i >= length; i--) {
+            chars[i] = (char) ('0' + (v % 10));
+            v /= 10;
+        }
+
+        length += digits;
+
+        return this;
+    }
+
+    public TextBuffer append(boolean b) {
+
+        return append(b ? "true" : "false");
+    }
+
+    /** String.format("%.Nf", v) 과 같은 모양 (N 은 0~6) */
+    public TextBuffer appendFixed(double v, int decimals) {
+
+        if (Double.isNaN(v) || Double.isInfinite(v)) {
+            return append(Double.isNaN(v) ? "NaN" : (v > 0 ? "Infinity" : "-Infinity"));
+        }
+
+        int d =
+                Math.max(0, Math.min(POW10.length - 1, decimals));
+
+        long scale =
+                POW10[d];
+
+        if (v < 0) {
+            append('-');
+            v = -v;
+        }
+
+        long scaled =
+                Math.round(v * scale);
+
+        append(scaled / scale);
+
+        if (d > 0) {
+
+            append('.');
+
+            long frac =
+                    scaled % scale;
+
+            for (long p = scale / 10; p > frac && p > 1; p /= 10) {
+                append('0');
+            }
+
+            append(frac);
+        }
+
+        return this;
+    }
+
+    private void ensureCapacity(int extra) {
+
+        if (length + extra <= chars.length) {
+            return;
+        }
+
+        char[] grown =
+                new char[Math.max(chars.length * 2, length + extra)];
+
+        System.arraycopy(chars, 0, grown, 0, length);
+
+        chars = grown;
+    }
+
+    // ===============================
+    // Access
+    // ===============================
+
+    public char[] getChars() {
+        return chars;
+    }
+
+    public int length() {
+        return length;
+    }
+
+    @Override
+    public String toString() {
+        return new String(chars, 0, length);
+    }
+}
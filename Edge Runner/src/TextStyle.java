@@ -0,0 +1,155 @@
+import java.awt.Font;
+import java.awt.FontMetrics;
+import java.awt.Graphics2D;
+import java.awt.font.FontRenderContext;
+import java.awt.font.GlyphVector;
+import java.util.HashMap;
+
+/**
+ * 글꼴 하나로 텍스트를 그리는 도우미
+ * - Font 는 생성할 때 한 번만 만든다 (프레임마다 new Font / deriveFont 하지 않음)
+ * - 바뀌지 않는 문자열은 GlyphVector 로 레이아웃해 두고 재사용
+ * - 바뀌는 문자열은 TextBuffer 로 받아 drawChars 로 그린다
+ */
+public class TextStyle {
+
+    // 퀴즈/엔딩 문장까지 넉넉히 들어가는 크기. 넘치면 통째로 비움
+    private static final int MAX_CACHED_STRINGS = 128;
+
+    private final Font font;
+
+    private final HashMap<String, CachedString> cache =
+            new HashMap<>();
+
+    private FontRenderContext frc;
+
+    private FontMetrics metrics;
+
+    // ===============================
+    // Cached Layout
+    // ===============================
+
+    private static final class CachedString {
+
+        final GlyphVector glyphs;
+
+        final int width;
+
+        CachedString(GlyphVector glyphs, int width) {
+            this.glyphs = glyphs;
+            this.width = width;
+        }
+    }
+
+    public TextStyle(String family, int style, int size) {
+
+        this.font =
+                new Font(family, style, size);
+    }
+
+    public Font getFont() {
+        return font;
+    }
+
+    // ===============================
+    // Static Strings (GlyphVector cache)
+    // ===============================
+
+    public void draw(Graphics2D g, String text, int x, int y) {
+
+        g.drawGlyphVector(lookup(g, text).glyphs, x, y);
+    }
+
+    public int width(Graphics2D g, String text) {
+
+        return lookup(g, text).width;
+    }
+
+    /** 가로 가운데 정렬 (left ~ left+areaWidth) */
+    public void drawCentered(Graphics2D g, String text, int left, int areaWidth, int y) {
+
+        CachedString s =
+                lookup(g, text);
+
+        g.drawGlyphVector(s.glyphs, left + (areaWidth - s.width) / 2, y);
+    }
+
+    private CachedString lookup(Graphics2D g, String text) {
+
+        syncContext(g);
+
+        CachedString s =
+                cache.get(text);
+
+        if (s == null) {
+
+            if (cache.size() >= MAX_CACHED_STRINGS) {
+                cache.clear();
+            }
+
+            s =
+                    new CachedString(
+                            font.createGlyphVector(frc, text),
+                            metrics.stringWidth(text)
+                    );
+
+            cache.put(text, s);
+        }
+
+        return s;
+    }
+
+    // ===============================
+    // Dynamic Strings (TextBuffer)
+    // ===============================
+
+    public void draw(Graphics2D g, TextBuffer text, int x, int y) {
+
+        g.setFont(font);
+
+        g.drawChars(text.getChars(), 0, text.length(), x, y);
+    }
+
+    /** 공유 char[] 의 일부 (TypedScript 의 타이핑 중인 줄) */
+    public void draw(Graphics2D g, char[] chars, int offset, int length, int x, int y) {
+
+        g.setFont(font);
+
+        g.drawChars(chars, offset, length, x, y);
+    }
+
+    public int width(Graphics2D g, TextBuffer text) {
+
+        syncContext(g);
+
+        return metrics.charsWidth(text.getChars(), 0, text.length());
+    }
+
+    public int getHeight(Graphics2D g) {
+
+        syncContext(g);
+
+        return metrics.getHeight();
+    }
+
+    // ===============================
+    // Render Context
+    // ===============================
+
+    /** 안티앨리어싱 설정 등이 바뀌면 레이아웃 결과가 달라지므로 캐시를 비운다 */
+    private void syncContext(Graphics2D g) {
+
+        FontRenderContext current =
+                g.getFontRenderContext();
+
+        if (current.equals(frc)) {
+            return;
+        }
+
+        frc = current;
+
+        metrics = g.getFontMetrics(font);
+
+        cache.clear();
+    }
+}
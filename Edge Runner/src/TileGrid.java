@@ -0,0 +1,192 @@
+import java.nio.ByteBuffer;
+
+/**
+ * 평평한 byte[] 타일 격자 (칸 = y * width + x, 값 = TileType.ordinal())
+ * - TileType[][] 처럼 행마다 배열을 따라가지 않고, 칸당 1바이트라 큰 맵도 캐시에 잘 들어간다.
+ * - 타일 종류별 성질(벽/위험/획득)은 FLAGS 표에서 비트로 바로 꺼낸다.
+ * - 렌더 캐시와 시뮬레이션 활성 범위는 CHUNK_TILES 크기 청크 단위로 나눈다.
+ */
+public class TileGrid {
+
+    // ===============================
+    // Tile Flags
+    // ===============================
+
+    // 플레이어가 통과할 수 없음 (충돌 처리 대상)
+    public static final int SOLID  = 1;
+
+    // 닿으면 즉사
+    public static final int HAZARD = 1 << 1;
+
+    // 닿으면 먹고 칸이 비워짐
+    public static final int PICKUP = 1 << 2;
+
+    // 청크 한 변의 타일 수 (16 x 32px = 512px)
+    public static final int CHUNK_TILES = 16;
+
+    private static final MapLoader.TileType[] TYPES =
+            MapLoader.TileType.values();
+
+    private static final byte EMPTY_CODE =
+            (byte) MapLoader.TileType.EMPTY.ordinal();
+
+    private static final int[] FLAGS =
+            buildFlagTable();
+
+    private static int[] buildFlagTable() {
+
+        int[] table =
+                new int[TYPES.length];
+
+        table[MapLoader.TileType.WALL.ordinal()]       = SOLID;
+
+        table[MapLoader.TileType.SPIKE.ordinal()]      = HAZARD;
+        table[MapLoader.TileType.LAVA.ordinal()]       = HAZARD;
+
+        table[MapLoader.TileType.STAR.ordinal()]       = PICKUP;
+        table[MapLoader.TileType.GEM_YELLOW.ordinal()] = PICKUP;
+        table[MapLoader.TileType.GEM_BLUE.ordinal()]   = PICKUP;
+
+        return table;
+    }
+
+    public static int flagsOf(MapLoader.TileType type) {
+
+        return FLAGS[type.ordinal()];
+    }
+
+    // ===============================
+    // Fields
+    // ===============================
+
+    public final int width;
+    public final int height;
+
+    private final byte[] cells;
+
+    // ===============================
+    // Constructors
+    // ===============================
+
+    public TileGrid(int width, int height) {
+
+        this.width = width;
+        this.height = height;
+
+        this.cells =
+                new byte[width * height];
+    }
+
+    private TileGrid(int width, int height, byte[] cells) {
+
+        this.width = width;
+        this.height = height;
+        this.cells = cells;
+    }
+
+    public static TileGrid fromRows(MapLoader.TileType[][] rows, int width, int height) {
+
+        TileGrid grid =
+                new TileGrid(width, height);
+
+        for (int y = 0; y < height; y++) {
+            for (int x = 0; x < width; x++) {
+                grid.set(x, y, rows[y][x]);
+            }
+        }
+
+        return grid;
+    }
+
+    public TileGrid copy() {
+
+        return new TileGrid(width, height, cells.clone());
+    }
+
+    // ===============================
+    // Chunks
+    // ===============================
+
+    public int chunkColumns() {
+
+        return (width + CHUNK_TILES - 1) / CHUNK_TILES;
+    }
+
+    public int chunkRows() {
+
+        return (height + CHUNK_TILES - 1) / CHUNK_TILES;
+    }
+
+    // ===============================
+    // Access
+    // ===============================
+
+    public int index(int x, int y) {
+
+        return y * width + x;
+    }
+
+    public MapLoader.TileType get(int x, int y) {
+
+        return TYPES[cells[y * width + x]];
+    }
+
+    public MapLoader.TileType getAt(int cell) {
+
+        return TYPES[cells[cell]];
+    }
+
+    public int flags(int x, int y) {
+
+        return FLAGS[cells[y * width + x]];
+    }
+
+    public int flagsAt(int cell) {
+
+        return FLAGS[cells[cell]];
+    }
+
+    public boolean isSolid(int x, int y) {
+
+        return (FLAGS[cells[y * width + x]] & SOLID) != 0;
+    }
+
+    public boolean isEmptyAt(int cell) {
+
+        return cells[cell] == EMPTY_CODE;
+    }
+
+    public void set(int x, int y, MapLoader.TileType type) {
+
+        cells[y * width + x] =
+                (byte) type.ordinal();
+    }
+
+    /** 같은 크기의 다른 격자에서 한 칸을 되돌려 옴 */
+    public void copyCell(TileGrid from, int cell) {
+
+        cells[cell] =
+                from.cells[cell];
+    }
+
+    // ===============================
+    // Bulk I/O (레벨 바이너리)
+    // ===============================
+
+    /** 타일 면(width * height 바이트)을 한 번에 읽는다. 모르는 타일 코드면 예외 */
+    public void readCells(ByteBuffer src) {
+
+        src.get(cells);
+
+        for (byte code : cells) {
+            if (code < 0 || code >= TYPES.length) {
+                throw new IllegalArgumentException("알 수 없는 타일 코드: " + code);
+            }
+        }
+    }
+
+    public void writeCells(ByteBuffer dst) {
+
+        dst.put(cells);
+    }
+}
@@ -0,0 +1,542 @@
+import java.awt.AlphaComposite;
+import java.awt.Graphics2D;
+import java.awt.RenderingHints;
+import java.awt.Transparency;
+import java.awt.image.BufferedImage;
+import java.util.ArrayDeque;
+import java.util.Arrays;
+
+/**
+ * 스테이지 타일 레이어 캐시 (청크 단위)
+ * - 맵을 TileGrid.CHUNK_TILES 크기 청크로 나누고, 화면(뷰포트)에 걸친 청크만 이미지로 굽는다.
+ * - 움직이지 않는 타일(벽/가시/문/보석)은 청크 이미지에 한 번만 그리고
+ *   보석처럼 사라지는 타일은 그 칸만 지워서 갱신한다.
+ * - 용암과 코인처럼 애니메이션 되는 타일은 보이는 청크 것만 매 프레임 오버레이로 그린다.
+ * - 구워 둔 청크는 최대 MAX_LOADED_CHUNKS 개. 넘치면 가장 오래 안 보인 청크를 버리고
+ *   이미지는 다음 청크가 재사용 → 맵 길이와 상관없이 메모리/프레임 비용이 일정
+ */
+public class TileLayerCache {
+
+    // ===============================
+    // Tile Painter
+    // ===============================
+
+    public interface TilePainter {
+
+        void paintTile(Graphics2D g, MapLoader.TileType type, int px, int py);
+    }
+
+    // ===============================
+    // Configuration
+    // ===============================
+
+    // 960x480 뷰포트는 많아야 3x2 청크에 걸침 → 스크롤 여유까지 두 배
+    private static final int MAX_LOADED_CHUNKS = 12;
+
+    private static final int CHUNK_CELLS =
+            TileGrid.CHUNK_TILES * TileGrid.CHUNK_TILES;
+
+    // ===============================
+    // Chunk
+    // ===============================
+
+    private static final class Chunk {
+
+        final int cx;
+        final int cy;
+
+        BufferedImage image;
+
+        // 청크 이미지에서 지워 둔 칸 (리스폰 시 이 칸만 다시 그림)
+        final int[] patchedCells = new int[CHUNK_CELLS];
+        int patchedCount;
+
+        final int[] overlayCells = new int[CHUNK_CELLS];
+        int overlayCount;
+
+        long lastUsedFrame;
+
+        Chunk(int cx, int cy) {
+            this.cx = cx;
+            this.cy = cy;
+        }
+    }
+
+    // ===============================
+    // Fields
+    // ===============================
+
+    private final int tileSize;
+
+    private final int chunkPx;
+
+    private MapLoader.MapData bakedMap;
+
+    private MapLoader.MapTemplate bakedTemplate;
+
+    private int bakedGeneration;
+
+    private TilePainter painter;
+
+    private int chunkCols;
+
+    private int chunkRows;
+
+    // 청크 좌표(cy * chunkCols + cx) → 구워 둔 청크, 없으면 null
+    private Chunk[] chunkIndex =
+            new Chunk[0];
+
+    private final Chunk[] loaded =
+            new Chunk[MAX_LOADED_CHUNKS];
+
+    private int loadedCount =
+            0;
+
+    private final ArrayDeque<BufferedImage> imagePool =
+            new ArrayDeque<>();
+
+    private long frame =
+            0L;
+
+    // 월드 픽셀 좌표 기준 화면 영역
+    private int viewX;
+    private int viewY;
+    private int viewW;
+    private int viewH;
+
+    // ===============================
+    // Constructor
+    // ===============================
+
+    public TileLayerCache(int tileSize) {
+
+        this.tileSize = tileSize;
+
+        this.chunkPx =
+                tileSize * TileGrid.CHUNK_TILES;
+    }
+
+    // ===============================
+    // Tile Classification
+    // ===============================
+
+    public static boolean isStatic(MapLoader.TileType type) {
+
+        return type == MapLoader.TileType.WALL
+                || type == MapLoader.TileType.SPIKE
+                || type == MapLoader.TileType.DOOR
+                || type == MapLoader.TileType.GEM_YELLOW
+                || type == MapLoader.TileType.GEM_BLUE;
+    }
+
+    public static boolean isAnimated(MapLoader.TileType type) {
+
+        return type == MapLoader.TileType.LAVA
+                || type == MapLoader.TileType.STAR;
+    }
+
+    // ===============================
+    // Map Sync
+    // ===============================
+
+    public boolean isBakedFor(MapLoader.MapData map) {
+
+        return map != null
+                && map == bakedMap
+                && map.getGeneration() == bakedGeneration;
+    }
+
+    public void invalidate() {
+
+        unloadAll();
+
+        bakedMap = null;
+        bakedTemplate = null;
+    }
+
+    /**
+     * 현재 맵과 캐시를 맞춘다.
+     * - 다른 스테이지면 구워 둔 청크를 모두 버리고 (보일 때 다시 구움)
+     * - 같은 스테이지의 새 도전(리스폰)이면 구워 둔 청크에서 지웠던 칸만 다시 그린다.
+     */
+    public void sync(MapLoader.MapData map, TilePainter painter) {
+
+        this.painter = painter;
+
+        if (map == null || isBakedFor(map)) {
+            return;
+        }
+
+        if (map.getTemplate() != bakedTemplate) {
+
+            unloadAll();
+
+            chunkCols = map.getGrid().chunkColumns();
+            chunkRows = map.getGrid().chunkRows();
+
+            chunkIndex =
+                    new Chunk[chunkCols * chunkRows];
+
+            bakedTemplate = map.getTemplate();
+
+        } else {
+
+            for (int i = 0; i < loadedCount; i++) {
+                restorePatchedCells(loaded[i], map);
+            }
+        }
+
+        bakedMap = map;
+        bakedGeneration = map.getGeneration();
+    }
+
+    public void setViewport(int x, int y, int w, int h) {
+
+        viewX = x;
+        viewY = y;
+        viewW = w;
+        viewH = h;
+    }
+
+    // ===============================
+    // Chunk Loading
+    // ===============================
+
+    private Chunk ensureLoaded(int cx, int cy) {
+
+        int slot =
+                cy * chunkCols + cx;
+
+        Chunk chunk =
+                chunkIndex[slot];
+
+        if (chunk == null) {
+
+            if (loadedCount == MAX_LOADED_CHUNKS) {
+                evictLeastRecentlyUsed();
+            }
+
+            chunk =
+                    new Chunk(cx, cy);
+
+            bakeChunk(chunk);
+
+            chunkIndex[slot] = chunk;
+            loaded[loadedCount++] = chunk;
+        }
+
+        chunk.lastUsedFrame =
+                frame;
+
+        return chunk;
+    }
+
+    private void evictLeastRecentlyUsed() {
+
+        int oldest =
+                0;
+
+        for (int i = 1; i < loadedCount; i++) {
+            if (loaded[i].lastUsedFrame < loaded[oldest].lastUsedFrame) {
+                oldest = i;
+            }
+        }
+
+        Chunk victim =
+                loaded[oldest];
+
+        loaded[oldest] = loaded[--loadedCount];
+        loaded[loadedCount] = null;
+
+        chunkIndex[victim.cy * chunkCols + victim.cx] = null;
+
+        imagePool.push(victim.image);
+    }
+
+    private void unloadAll() {
+
+        for (int i = 0; i < loadedCount; i++) {
+
+            imagePool.push(loaded[i].image);
+
+            loaded[i] = null;
+        }
+
+        loadedCount = 0;
+
+        Arrays.fill(chunkIndex, null);
+    }
+
+    /**
+     * 청크 하나를 굽는다.
+     * 템플릿 기준으로 정적이지만 지금은 비어 있는 칸(이미 먹은 보석)은 patched 로 기억해
+     * 리스폰 때 다시 그릴 수 있게 한다.
+     */
+    private void bakeChunk(Chunk chunk) {
+
+        BufferedImage image =
+                imagePool.isEmpty()
+                        ? AssetManager.createCompatibleImage(chunkPx, chunkPx, Transparency.TRANSLUCENT)
+                        : imagePool.pop();
+
+        chunk.image = image;
+
+        TileGrid grid =
+                bakedMap.getGrid();
+
+        TileGrid source =
+                bakedTemplate.getGrid();
+
+        int tx0 = chunk.cx * TileGrid.CHUNK_TILES;
+        int ty0 = chunk.cy * TileGrid.CHUNK_TILES;
+
+        int tx1 = Math.min(grid.width,  tx0 + TileGrid.CHUNK_TILES);
+        int ty1 = Math.min(grid.height, ty0 + TileGrid.CHUNK_TILES);
+
+        Graphics2D g =
+                image.createGraphics();
+
+        try {
+
+            g.setComposite(AlphaComposite.Clear);
+            g.fillRect(0, 0, chunkPx, chunkPx);
+            g.setComposite(AlphaComposite.SrcOver);
+
+            g.setRenderingHint(
+                    RenderingHints.KEY_ANTIALIASING,
+                    RenderingHints.VALUE_ANTIALIAS_ON
+            );
+
+            for (int ty = ty0; ty < ty1; ty++) {
+
+                for (int tx = tx0; tx < tx1; tx++) {
+
+                    int cell =
+                            grid.index(tx, ty);
+
+                    MapLoader.TileType type =
+                            grid.getAt(cell);
+
+                    MapLoader.TileType original =
+                            source.getAt(cell);
+
+                    if (isStatic(type)) {
+
+                        painter.paintTile(g, type, (tx - tx0) * tileSize, (ty - ty0) * tileSize);
+
+                    } else if (isStatic(original)) {
+
+                        chunk.patchedCells[chunk.patchedCount++] = cell;
+                    }
+
+                    // 먹은 별도 리스폰 뒤엔 다시 보여야 하므로 템플릿 기준
+                    if (isAnimated(original)) {
+                        chunk.overlayCells[chunk.overlayCount++] = cell;
+                    }
+                }
+            }
+
+        } finally {
+            g.dispose();
+        }
+    }
+
+    private void restorePatchedCells(Chunk chunk, MapLoader.MapData map) {
+
+        if (chunk.patchedCount == 0) {
+            return;
+        }
+
+        TileGrid grid =
+                map.getGrid();
+
+        Graphics2D g =
+                chunk.image.createGraphics();
+
+        try {
+
+            g.setRenderingHint(
+                    RenderingHints.KEY_ANTIALIASING,
+                    RenderingHints.VALUE_ANTIALIAS_ON
+            );
+
+            int kept =
+                    0;
+
+            for (int i = 0; i < chunk.patchedCount; i++) {
+
+                int cell =
+                        chunk.patchedCells[i];
+
+                MapLoader.TileType type =
+                        grid.getAt(cell);
+
+                if (isStatic(type)) {
+
+                    int localX =
+                            cell % grid.width - chunk.cx * TileGrid.CHUNK_TILES;
+
+                    int localY =
+                            cell / grid.width - chunk.cy * TileGrid.CHUNK_TILES;
+
+                    painter.paintTile(g, type, localX * tileSize, localY * tileSize);
+
+                } else {
+                    chunk.patchedCells[kept++] = cell;
+                }
+            }
+
+            chunk.patchedCount = kept;
+
+        } finally {
+            g.dispose();
+        }
+    }
+
+    // ===============================
+    // Incremental Patch
+    // ===============================
+
+    /** 보석/별을 먹은 칸만 투명하게 지운다 (구워 두지 않은 청크는 나중에 지금 상태로 구워짐) */
+    public void clearTile(int tx, int ty) {
+
+        if (bakedMap == null) {
+            return;
+        }
+
+        int cx = tx / TileGrid.CHUNK_TILES;
+        int cy = ty / TileGrid.CHUNK_TILES;
+
+        Chunk chunk =
+                chunkIndex[cy * chunkCols + cx];
+
+        if (chunk == null) {
+            return;
+        }
+
+        int localX = tx - cx * TileGrid.CHUNK_TILES;
+        int localY = ty - cy * TileGrid.CHUNK_TILES;
+
+        Graphics2D g =
+                chunk.image.createGraphics();
+
+        try {
+
+            g.setComposite(AlphaComposite.Clear);
+            g.fillRect(localX * tileSize, localY * tileSize, tileSize, tileSize);
+
+        } finally {
+            g.dispose();
+        }
+
+        boolean wasBaked =
+                isStatic(bakedTemplate.getTile(tx, ty));
+
+        if (wasBaked && chunk.patchedCount < chunk.patchedCells.length) {
+            chunk.patchedCells[chunk.patchedCount++] = ty * bakedMap.width + tx;
+        }
+    }
+
+    // ===============================
+    // Drawing
+    // ===============================
+
+    private int firstVisibleChunkX() {
+        return Math.max(0, Math.floorDiv(viewX, chunkPx));
+    }
+
+    private int lastVisibleChunkX() {
+        return Math.min(chunkCols - 1, Math.floorDiv(viewX + viewW - 1, chunkPx));
+    }
+
+    private int firstVisibleChunkY() {
+        return Math.max(0, Math.floorDiv(viewY, chunkPx));
+    }
+
+    private int lastVisibleChunkY() {
+        return Math.min(chunkRows - 1, Math.floorDiv(viewY + viewH - 1, chunkPx));
+    }
+
+    /** 뷰포트에 걸친 청크 이미지만 그린다 (아직 없으면 이때 구움) */
+    public void drawStatic(Graphics2D g, int offsetY) {
+
+        if (bakedMap == null || painter == null) {
+            return;
+        }
+
+        frame++;
+
+        int x1 = lastVisibleChunkX();
+        int y1 = lastVisibleChunkY();
+
+        for (int cy = firstVisibleChunkY(); cy <= y1; cy++) {
+
+            for (int cx = firstVisibleChunkX(); cx <= x1; cx++) {
+
+                Chunk chunk =
+                        ensureLoaded(cx, cy);
+
+                g.drawImage(chunk.image, cx * chunkPx, cy * chunkPx + offsetY, null);
+            }
+        }
+    }
+
+    /** 보이는 청크의 애니메이션 타일만 그린다. 이미 먹은 별은 맵에서 EMPTY 이므로 건너뜀 */
+    public void drawOverlay(Graphics2D g, int offsetY, TilePainter painter) {
+
+        MapLoader.MapData map =
+                bakedMap;
+
+        if (map == null) {
+            return;
+        }
+
+        TileGrid grid =
+                map.getGrid();
+
+        int x1 = lastVisibleChunkX();
+        int y1 = lastVisibleChunkY();
+
+        for (int cy = firstVisibleChunkY(); cy <= y1; cy++) {
+
+            for (int cx = firstVisibleChunkX(); cx <= x1; cx++) {
+
+                Chunk chunk =
+                        chunkIndex[cy * chunkCols + cx];
+
+                if (chunk == null) {
+                    continue;
+                }
+
+                for (int i = 0; i < chunk.overlayCount; i++) {
+
+                    int cell =
+                            chunk.overlayCells[i];
+
+                    MapLoader.TileType type =
+                            grid.getAt(cell);
+
+                    if (!isAnimated(type)) {
+                        continue;
+                    }
+
+                    int x =
+                            cell % map.width;
+
+                    int y =
+                            cell / map.width;
+
+                    painter.paintTile(g, type, x * tileSize, y * tileSize + offsetY);
+                }
+            }
+        }
+    }
+
+    // ===============================
+    // Diagnostics
+    // ===============================
+
+    public int getLoadedChunkCount() {
+        return loadedCount;
+    }
+}
@@ -0,0 +1,148 @@
+import java.util.List;
+
+/**
+ * 타이핑 효과로 보여줄 대사/엔딩 문장 표 (한 번 만들면 바뀌지 않음)
+ * - 모든 줄의 글자를 char[] 하나에 이어 붙이고, 줄마다 시작 위치/길이만 기억
+ *   → 타이핑 중인 줄은 substring 없이 drawChars(chars, start, n) 로 바로 그린다.
+ * - 다 나온 줄은 lines[i] 문자열 그대로 그려서 TextStyle 의 GlyphVector 캐시를 탄다.
+ * - "화자|대사" 형식이면 화자도 미리 잘라 둔다.
+ * - 대사 파일(StoryLibrary)에서 읽은 장면은 엔딩 제목도 함께 가진다.
+ */
+public class TypedScript {
+
+    public static final TypedScript EMPTY =
+            new TypedScript(new String[0], new String[0], null);
+
+    private static final char SPEAKER_SEPARATOR =
+            '|';
+
+    // ===============================
+    // Fields
+    // ===============================
+
+    // 없으면 null
+    private final String title;
+
+    private final String[] lines;
+
+    // 화자 없는 줄은 null
+    private final String[] speakers;
+
+    private final char[] chars;
+
+    private final int[] starts;
+
+    // ===============================
+    // Constructors
+    // ===============================
+
+    private TypedScript(String[] lines, String[] speakers, String title) {
+
+        this.title = title;
+        this.lines = lines;
+        this.speakers = speakers;
+
+        int total = 0;
+
+        for (String line : lines) {
+            total += line.length();
+        }
+
+        this.chars =
+                new char[total];
+
+        this.starts =
+                new int[lines.length];
+
+        int at = 0;
+
+        for (int i = 0; i < lines.length; i++) {
+
+            starts[i] = at;
+
+            lines[i].getChars(0, lines[i].length(), chars, at);
+
+            at += lines[i].length();
+        }
+    }
+
+    /** 줄 목록 그대로 */
+    public static TypedScript of(String... lines) {
+
+        return new TypedScript(
+                lines.clone(),
+                new String[lines.length],
+                null
+        );
+    }
+
+    /** '\n' 으로 나눈 여러 줄 텍스트 */
+    public static TypedScript split(String text) {
+
+        return of(text.split("\n"));
+    }
+
+    /**
+     * "화자|대사" 줄 목록. 화자와 대사는 앞뒤 공백을 잘라 둔다.
+     * '|' 가 없는 줄은 화자 없이 그대로 (들여쓰기 공백도 유지)
+     */
+    public static TypedScript dialogue(String title, List<String> rawLines) {
+
+        String[] lines =
+                new String[rawLines.size()];
+
+        String[] speakers =
+                new String[rawLines.size()];
+
+        for (int i = 0; i < lines.length; i++) {
+
+            String raw =
+                    rawLines.get(i);
+
+            int sep =
+                    raw.indexOf(SPEAKER_SEPARATOR);
+
+            if (sep >= 0) {
+                speakers[i] = raw.substring(0, sep).trim();
+                lines[i] = raw.substring(sep + 1).trim();
+            } else {
+                lines[i] = raw;
+            }
+        }
+
+        return new TypedScript(lines, speakers, title);
+    }
+
+    // ===============================
+    // Access
+    // ===============================
+
+    public String title() {
+        return title;
+    }
+
+    public int lineCount() {
+        return lines.length;
+    }
+
+    public String line(int i) {
+        return lines[i];
+    }
+
+    public String speaker(int i) {
+        return speakers[i];
+    }
+
+    public int lineLength(int i) {
+        return lines[i].length();
+    }
+
+    public int lineStart(int i) {
+        return starts[i];
+    }
+
+    /** 모든 줄이 이어진 공유 배열. 읽기만 할 것 */
+    public char[] chars() {
+        return chars;
+    }
+}
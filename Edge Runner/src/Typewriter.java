@@ -0,0 +1,201 @@
+/**
+ * TypedScript 한 편을 한 글자씩 보여주는 진행 상태
+ * - 현재 줄 번호와 그 줄에서 보이는 글자 수(정수 커서)만 가지고 있으므로 프레임마다 할당이 없다.
+ * - linePause 가 0 이상이면 줄이 다 나온 뒤 그만큼 쉬고 다음 줄로 자동으로 넘어간다 (마지막 줄에서는 멈춤).
+ *   음수면 다음 줄로는 nextLine() 으로만 넘어간다 (ENTER 로 넘기는 대화).
+ * - 넘친 시간은 다음 줄로 이어서 쓰므로 프레임 간격과 상관없이 같은 속도로 나온다.
+ */
+public class Typewriter {
+
+    // ===============================
+    // Configuration
+    // ===============================
+
+    private final double charDelay;
+
+    private final double linePause;
+
+    // ===============================
+    // State
+    // ===============================
+
+    private TypedScript script =
+            TypedScript.EMPTY;
+
+    private int line =
+            0;
+
+    private int chars =
+            0;
+
+    private double timer =
+            0.0;
+
+    // ===============================
+    // Constructor
+    // ===============================
+
+    /** charDelay: 글자당 초, linePause: 줄 끝에서 쉬는 초 (음수면 수동 넘김) */
+    public Typewriter(double charDelay, double linePause) {
+
+        this.charDelay = charDelay;
+        this.linePause = linePause;
+    }
+
+    // ===============================
+    // Script
+    // ===============================
+
+    /** 새 대본으로 처음부터 */
+    public void start(TypedScript script) {
+
+        this.script =
+                (script != null)
+                        ? script
+                        : TypedScript.EMPTY;
+
+        reset();
+    }
+
+    /** 이미 같은 대본이면 진행 상태를 그대로 둔다 */
+    public void setScript(TypedScript script) {
+
+        if (script != this.script) {
+            start(script);
+        }
+    }
+
+    public void reset() {
+
+        line = 0;
+        chars = 0;
+        timer = 0.0;
+    }
+
+    // ===============================
+    // Progress
+    // ===============================
+
+    public void update(double dt) {
+
+        if (line >= script.lineCount()) {
+            return;
+        }
+
+        timer += dt;
+
+        int length =
+                script.lineLength(line);
+
+        chars =
+                Math.min(length, (int) (timer / charDelay));
+
+        if (chars < length || linePause < 0 || line >= script.lineCount() - 1) {
+            return;
+        }
+
+        double lineTime =
+                length * charDelay + linePause;
+
+        if (timer >= lineTime) {
+
+            line++;
+            chars = 0;
+
+            timer -= lineTime;
+        }
+    }
+
+    /** 지금 줄을 바로 끝까지 보여줌 */
+    public void completeLine() {
+
+        if (line >= script.lineCount()) {
+            return;
+        }
+
+        chars = script.lineLength(line);
+
+        timer = chars * charDelay;
+    }
+
+    /** 다음 줄로 (마지막 줄에서 부르면 대본 밖으로 나가 isPastEnd 가 true) */
+    public void nextLine() {
+
+        if (line < script.lineCount()) {
+            line++;
+        }
+
+        chars = 0;
+        timer = 0.0;
+    }
+
+    /** 마지막 줄까지 모두 보여줌 */
+    public void completeAll() {
+
+        int count =
+                script.lineCount();
+
+        if (count == 0) {
+            return;
+        }
+
+        line = count - 1;
+        chars = script.lineLength(line);
+
+        timer = chars * charDelay + Math.max(0.0, linePause);
+    }
+
+    // ===============================
+    // State Queries
+    // ===============================
+
+    public boolean isAtStart() {
+
+        return line == 0 && chars == 0;
+    }
+
+    /** 지금 줄이 다 나왔음 (대본 밖이면 true) */
+    public boolean isLineComplete() {
+
+        return line >= script.lineCount()
+                || chars >= script.lineLength(line);
+    }
+
+    /** 마지막 줄까지 다 나왔음 */
+    public boolean isComplete() {
+
+        return line >= script.lineCount() - 1 && isLineComplete();
+    }
+
+    /** 다 나온 뒤 줄 끝 쉬는 시간까지 지났음 */
+    public boolean isPauseOver() {
+
+        if (!isLineComplete()) {
+            return false;
+        }
+
+        if (line >= script.lineCount()) {
+            return true;
+        }
+
+        return timer >= script.lineLength(line) * charDelay + Math.max(0.0, linePause);
+    }
+
+    public boolean isPastEnd() {
+
+        return line >= script.lineCount();
+    }
+
+    public TypedScript getScript() {
+        return script;
+    }
+
+    public int getLine() {
+        return line;
+    }
+
+    /** 지금 줄에서 보이는 글자 수 */
+    public int getChars() {
+        return chars;
+    }
+}